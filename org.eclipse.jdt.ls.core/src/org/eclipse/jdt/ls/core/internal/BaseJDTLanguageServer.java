@@ -13,20 +13,22 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection.JavaLanguageClient;
+import org.eclipse.jdt.ls.core.internal.RequestExecutor.Lane;
 import org.eclipse.lsp4j.Registration;
 import org.eclipse.lsp4j.RegistrationParams;
 import org.eclipse.lsp4j.Unregistration;
 import org.eclipse.lsp4j.UnregistrationParams;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 
 public class BaseJDTLanguageServer {
 	/**
@@ -75,6 +77,34 @@ public class BaseJDTLanguageServer {
 		}
 	}
 
+	/**
+	 * Unregisters the given capabilities with a single request to the client.
+	 * The capabilities which are not registered are skipped.
+	 */
+	public void unregisterCapabilities(List<Unregistration> unregistrations) {
+		if (client != null) {
+			List<Unregistration> registered = new ArrayList<>(unregistrations);
+			registered.removeIf(unregistration -> !registeredCapabilities.remove(unregistration.getId()));
+			if (!registered.isEmpty()) {
+				client.unregisterCapability(new UnregistrationParams(registered));
+			}
+		}
+	}
+
+	/**
+	 * Registers the given capabilities with a single request to the client.
+	 * The capabilities which are already registered are skipped.
+	 */
+	public void registerCapabilities(List<Registration> registrations) {
+		if (client != null) {
+			List<Registration> unregistered = new ArrayList<>(registrations);
+			unregistered.removeIf(registration -> !registeredCapabilities.add(registration.getId()));
+			if (!unregistered.isEmpty()) {
+				client.registerCapability(new RegistrationParams(unregistered));
+			}
+		}
+	}
+
 	protected void toggleCapability(boolean enabled, String id, String capability, Object options) {
 		if (enabled) {
 			registerCapability(id, capability, options);
@@ -84,7 +114,11 @@ public class BaseJDTLanguageServer {
 	}
 
 	protected <R> CompletableFuture<R> computeAsync(Function<IProgressMonitor, R> code) {
-		return CompletableFutures.computeAsync(cc -> code.apply(toMonitor(cc)));
+		return computeAsync(Lane.DEFAULT, code);
+	}
+
+	protected <R> CompletableFuture<R> computeAsync(Lane lane, Function<IProgressMonitor, R> code) {
+		return RequestExecutor.getInstance().computeAsync(lane, cc -> code.apply(toMonitor(cc)));
 	}
 
 	protected IProgressMonitor toMonitor(CancelChecker checker) {
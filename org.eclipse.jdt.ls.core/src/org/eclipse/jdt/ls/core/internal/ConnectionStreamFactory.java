@@ -16,18 +16,19 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.net.Socket;
+import java.net.InetSocketAddress;
 import java.net.StandardProtocolFamily;
 import java.net.UnixDomainSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.StandardOpenOption;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.Platform;
@@ -40,6 +41,11 @@ import org.eclipse.core.runtime.Platform;
  */
 public class ConnectionStreamFactory {
 
+	/**
+	 * The size of the transport buffers, which holds most JSON-RPC messages.
+	 */
+	static final int BUFFER_SIZE = 64 * 1024;
+
 	protected interface StreamProvider {
 		InputStream getInputStream() throws IOException;
 
@@ -58,9 +64,9 @@ public class ConnectionStreamFactory {
 		}
 
 		private void initializeConnection() throws IOException {
-			Socket socket = new Socket(host, port);
-			fInputStream = socket.getInputStream();
-			fOutputStream = socket.getOutputStream();
+			SocketChannel channel = SocketChannel.open(new InetSocketAddress(host, port));
+			fInputStream = new NamedPipeInputStream(channel);
+			fOutputStream = new NamedPipeOutputStream(channel);
 		}
 
 		@Override
@@ -145,12 +151,16 @@ public class ConnectionStreamFactory {
 
 	}
 
-	public class NamedPipeInputStream extends InputStream {
+	/**
+	 * An input stream reading a named pipe (Windows), a unix socket or a TCP
+	 * socket through a direct buffer. Bulk reads larger than the buffer are
+	 * read straight into the destination array.
+	 */
+	public static class NamedPipeInputStream extends InputStream {
 
 		private ReadableByteChannel unixChannel;
 		private AsynchronousFileChannel winChannel;
-		private ByteBuffer buffer = ByteBuffer.allocate(1024);
-		private int readyBytes = 0;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).flip();
 
 		public NamedPipeInputStream(ReadableByteChannel channel) {
 			this.unixChannel = channel;
@@ -162,32 +172,73 @@ public class ConnectionStreamFactory {
 
 		@Override
 		public int read() throws IOException {
-			if (buffer.position() < readyBytes) {
-				return buffer.get() & 0xFF;
+			if (!buffer.hasRemaining() && fill() == -1) {
+				return -1; // EOF
 			}
-			try {
-				buffer.clear();
-				if (winChannel != null) {
-					readyBytes = winChannel.read(buffer, 0).get();
-				} else {
-					readyBytes = unixChannel.read(buffer);
+			return buffer.get() & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			Objects.checkFromIndexSize(off, len, b.length);
+			if (len == 0) {
+				return 0;
+			}
+			if (!buffer.hasRemaining()) {
+				if (len >= buffer.capacity()) {
+					return readFromChannel(ByteBuffer.wrap(b, off, len));
 				}
-				if (readyBytes == -1) {
+				if (fill() == -1) {
 					return -1; // EOF
 				}
-				buffer.flip();
-				return buffer.get() & 0xFF;
-			} catch (InterruptedException | ExecutionException e) {
-				throw new IOException(e);
 			}
+			int count = Math.min(len, buffer.remaining());
+			buffer.get(b, off, count);
+			return count;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return buffer.remaining();
+		}
+
+		private int fill() throws IOException {
+			buffer.clear();
+			int count = readFromChannel(buffer);
+			buffer.flip();
+			return count;
+		}
+
+		private int readFromChannel(ByteBuffer destination) throws IOException {
+			int count;
+			do {
+				if (winChannel != null) {
+					try {
+						count = winChannel.read(destination, 0).get();
+					} catch (InterruptedException | ExecutionException e) {
+						throw new IOException(e);
+					}
+				} else {
+					count = unixChannel.read(destination);
+				}
+			} while (count == 0);
+			return count;
 		}
 	}
 
-	public class NamedPipeOutputStream extends OutputStream {
+	/**
+	 * An output stream writing to a named pipe (Windows), a unix socket or a
+	 * TCP socket. The bytes are kept in a direct buffer until the stream is
+	 * flushed, or until a write doesn't fit in the buffer, in which case the
+	 * buffered bytes and the written array are sent with a single gathering
+	 * write. The JSON-RPC messages, written as a header followed by a content
+	 * and a flush, are therefore sent with one write each.
+	 */
+	public static class NamedPipeOutputStream extends OutputStream {
 
 		private WritableByteChannel unixChannel;
 		private AsynchronousFileChannel winChannel;
-		private ByteBuffer buffer = ByteBuffer.allocate(1);
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
 
 		public NamedPipeOutputStream(WritableByteChannel channel) {
 			this.unixChannel = channel;
@@ -199,43 +250,51 @@ public class ConnectionStreamFactory {
 
 		@Override
 		public void write(int b) throws IOException {
-			buffer.clear();
+			if (!buffer.hasRemaining()) {
+				flush();
+			}
 			buffer.put((byte) b);
-			buffer.position(0);
-			if (winChannel != null) {
-				Future<Integer> result = winChannel.write(buffer, 0);
-				try {
-					result.get();
-				} catch (Exception e) {
-					throw new IOException(e);
-				}
-			} else {
-				unixChannel.write(buffer);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			Objects.checkFromIndexSize(off, len, b.length);
+			if (len <= buffer.remaining()) {
+				buffer.put(b, off, len);
+				return;
 			}
+			buffer.flip();
+			writeToChannel(buffer, ByteBuffer.wrap(b, off, len));
+			buffer.clear();
 		}
 
 		@Override
-		public void write(byte[] b) throws IOException {
-			final int BUFFER_SIZE = 1024;
-			int blocks = b.length / BUFFER_SIZE;
-			int writeBytes = 0;
-			for (int i = 0; i <= blocks; i++) {
-				int offset = i * BUFFER_SIZE;
-				int length = Math.min(b.length - writeBytes, BUFFER_SIZE);
-				if (length <= 0) {
-					break;
+		public void flush() throws IOException {
+			if (buffer.position() > 0) {
+				buffer.flip();
+				writeToChannel(buffer);
+				buffer.clear();
+			}
+		}
+
+		private void writeToChannel(ByteBuffer... buffers) throws IOException {
+			if (unixChannel instanceof GatheringByteChannel gatheringChannel) {
+				while (buffers[buffers.length - 1].hasRemaining()) {
+					gatheringChannel.write(buffers);
 				}
-				writeBytes += length;
-				ByteBuffer buffer = ByteBuffer.wrap(b, offset, length);
-				if (winChannel != null) {
-					Future<Integer> result = winChannel.write(buffer, 0);
-					try {
-						result.get();
-					} catch (Exception e) {
-						throw new IOException(e);
+				return;
+			}
+			for (ByteBuffer source : buffers) {
+				while (source.hasRemaining()) {
+					if (winChannel != null) {
+						try {
+							winChannel.write(source, 0).get();
+						} catch (InterruptedException | ExecutionException e) {
+							throw new IOException(e);
+						}
+					} else {
+						unixChannel.write(source);
 					}
-				} else {
-					unixChannel.write(buffer);
 				}
 			}
 		}
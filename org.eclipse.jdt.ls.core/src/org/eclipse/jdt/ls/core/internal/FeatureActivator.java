@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jdt.ls.core.internal.handlers.BundleUtils;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.osgi.framework.Bundle;
+
+/**
+ * Starts the bundles of the optional features of the language server.
+ *
+ * The Maven support is always started with the language server, the Maven
+ * preferences being applied on initialization. When the lazy activation is
+ * enabled ({@value #LAZY_ACTIVATION} environment variable or system property
+ * set to <code>true</code>), the Gradle support is only started with the
+ * language server if the workspace already contains Gradle projects, and
+ * otherwise when the first Gradle build is imported.
+ *
+ * The time and heap taken by the activation of each bundle are recorded.
+ */
+public final class FeatureActivator {
+
+	public static final String LAZY_ACTIVATION = "jdt.ls.lazyActivation";
+
+	public static final String GRADLE_BUNDLE_ID = CorePlugin.PLUGIN_ID;
+	public static final String MAVEN_BUNDLE_ID = IMavenConstants.PLUGIN_ID;
+
+	private static final Map<String, Activation> activations = new ConcurrentHashMap<>();
+
+	/**
+	 * The time and used heap taken by the activation of a bundle.
+	 */
+	public record Activation(long timeMillis, long heapBytes) {
+	}
+
+	private FeatureActivator() {
+		// no instances
+	}
+
+	public static boolean isLazyActivationEnabled() {
+		return Boolean.parseBoolean(Environment.get(LAZY_ACTIVATION, "false"));
+	}
+
+	/**
+	 * Starts the bundles needed when the language server starts, see
+	 * {@link #isLazyActivationEnabled()}.
+	 */
+	public static void activateOnStartup() {
+		activate(GRADLE_BUNDLE_ID, !isLazyActivationEnabled() || hasGradleProjects());
+		activate(MAVEN_BUNDLE_ID);
+	}
+
+	/**
+	 * Starts the bundle of the Gradle support, if not already started.
+	 */
+	public static void activateGradle() {
+		activate(GRADLE_BUNDLE_ID);
+	}
+
+	/**
+	 * @return whether the Gradle support is started. Its state must not be
+	 *         accessed otherwise, since loading its classes starts it.
+	 */
+	public static boolean isGradleActive() {
+		Bundle bundle = Platform.getBundle(GRADLE_BUNDLE_ID);
+		return bundle != null && bundle.getState() == Bundle.ACTIVE;
+	}
+
+	/**
+	 * Starts the given bundle, if not already started by the feature
+	 * activator.
+	 *
+	 * @param bundleId
+	 *            the symbolic name of the bundle
+	 */
+	public static void activate(String bundleId) {
+		activate(bundleId, true);
+	}
+
+	private static void activate(String bundleId, boolean needed) {
+		if (!needed) {
+			JavaLanguageServerPlugin.logInfo("Deferring the activation of " + bundleId);
+			return;
+		}
+		activations.computeIfAbsent(bundleId, id -> {
+			Runtime runtime = Runtime.getRuntime();
+			long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+			long start = System.currentTimeMillis();
+			try (StartupTimeline.Span span = StartupTimeline.begin("Activate " + id, "activation")) {
+				BundleUtils.startBundle(id);
+			}
+			return new Activation(System.currentTimeMillis() - start, Math.max(0, runtime.totalMemory() - runtime.freeMemory() - usedHeap));
+		});
+	}
+
+	/**
+	 * @return the activation of the given bundle, or <code>null</code> if it
+	 *         wasn't started by the feature activator
+	 */
+	public static Activation getActivation(String bundleId) {
+		return activations.get(bundleId);
+	}
+
+	static boolean hasGradleProjects() {
+		return Stream.of(ProjectUtils.getAllProjects()).anyMatch(ProjectUtils::isGradleProject);
+	}
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+import org.eclipse.core.internal.resources.Workspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+
+/**
+ * Keeps track of the interactive requests (completion, hover, semantic
+ * tokens, ...) being served, so that the background jobs can get out of their
+ * way.
+ *
+ * Background jobs call {@link #yieldToInteractive(IProgressMonitor)} at safe
+ * points, i.e. between two units of work, where they pause while interactive
+ * requests are running, for at most {@value #MAX_YIELD_MILLIS}ms at a time.
+ * A job only pauses when it holds neither a scheduling rule nor the workspace
+ * lock, which the interactive requests may be waiting for: the jobs yielding
+ * run each unit of work in its own workspace operation. The requests waiting
+ * for jobs aren't counted as running while they wait.
+ * The time interactive requests spend waiting for the document life cycle
+ * jobs, and the time background jobs spend yielding, are measured so that the
+ * effect of {@link org.eclipse.jdt.ls.core.internal.preferences.Preferences#JAVA_JOBS_YIELD_TO_INTERACTIVE}
+ * can be compared.
+ */
+public final class InteractiveRequests {
+
+	private static final long MAX_YIELD_MILLIS = 200;
+
+	private static final Object lock = new Object();
+	private static int running;
+	private static final ThreadLocal<int[]> runningInThread = ThreadLocal.withInitial(() -> new int[1]);
+
+	private static final AtomicLong waitCount = new AtomicLong();
+	private static final AtomicLong waitTime = new AtomicLong();
+	private static final LongAccumulator maxWaitTime = new LongAccumulator(Math::max, 0);
+	private static final AtomicLong yieldCount = new AtomicLong();
+	private static final AtomicLong yieldTime = new AtomicLong();
+
+	private InteractiveRequests() {
+		// no instance
+	}
+
+	/**
+	 * Runs an interactive request.
+	 */
+	public static <R> R run(Supplier<R> request) {
+		begin();
+		try {
+			return request.get();
+		} finally {
+			end();
+		}
+	}
+
+	public static void begin() {
+		runningInThread.get()[0]++;
+		synchronized (lock) {
+			running++;
+		}
+	}
+
+	public static void end() {
+		int[] count = runningInThread.get();
+		if (count[0] > 0) {
+			count[0]--;
+		}
+		release(1);
+	}
+
+	private static void release(int count) {
+		synchronized (lock) {
+			running -= count;
+			if (running <= 0) {
+				running = 0;
+				lock.notifyAll();
+			}
+		}
+	}
+
+	public static boolean isRunning() {
+		synchronized (lock) {
+			return running > 0;
+		}
+	}
+
+	/**
+	 * Waits for the jobs of the given family on behalf of an interactive
+	 * request, and records how long the request waited. The requests of the
+	 * calling thread aren't counted as running while it waits, so that the
+	 * jobs they wait for don't yield to them.
+	 */
+	public static void waitForJobs(String jobFamily, IProgressMonitor monitor) {
+		long start = System.nanoTime();
+		int[] count = runningInThread.get();
+		int suspended = count[0];
+		count[0] = 0;
+		release(suspended);
+		try {
+			JobHelpers.waitForJobs(jobFamily, monitor);
+		} finally {
+			count[0] += suspended;
+			synchronized (lock) {
+				running += suspended;
+			}
+			long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			waitCount.incrementAndGet();
+			waitTime.addAndGet(elapsed);
+			maxWaitTime.accumulate(elapsed);
+		}
+	}
+
+	/**
+	 * Called by background jobs at safe points: pauses the calling job while
+	 * interactive requests are running, unless it holds a scheduling rule or
+	 * the workspace lock, since the requests may be waiting for them.
+	 *
+	 * @return <code>true</code> if the calling job yielded
+	 */
+	public static boolean yieldToInteractive(IProgressMonitor monitor) {
+		if (!isEnabled() || !isRunning() || holdsLock()) {
+			return false;
+		}
+		long start = System.nanoTime();
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(MAX_YIELD_MILLIS);
+		synchronized (lock) {
+			long remaining;
+			while (running > 0 && (monitor == null || !monitor.isCanceled()) && (remaining = deadline - System.nanoTime()) > 0) {
+				try {
+					TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		yieldCount.incrementAndGet();
+		yieldTime.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return true;
+	}
+
+	/**
+	 * @return whether the current thread holds a scheduling rule or the
+	 *         workspace lock
+	 */
+	static boolean holdsLock() {
+		if (Job.getJobManager().currentRule() != null) {
+			return true;
+		}
+		try {
+			return ResourcesPlugin.getWorkspace() instanceof Workspace workspace && workspace.getWorkManager().isLockAlreadyAcquired();
+		} catch (CoreException | IllegalStateException e) {
+			// the workspace is closed
+			return false;
+		}
+	}
+
+	public static Statistics getStatistics() {
+		return new Statistics(isEnabled(), waitCount.get(), waitTime.get(), maxWaitTime.get(), yieldCount.get(), yieldTime.get());
+	}
+
+	private static boolean isEnabled() {
+		PreferenceManager preferenceManager = JavaLanguageServerPlugin.getPreferencesManager();
+		return preferenceManager == null || preferenceManager.getPreferences().isYieldToInteractive();
+	}
+
+	/**
+	 * The times (in milliseconds) spent waiting by the interactive requests,
+	 * and yielding by the background jobs.
+	 */
+	public record Statistics(boolean yieldEnabled, long waitCount, long waitTime, long maxWaitTime, long yieldCount, long yieldTime) {
+
+		public long averageWaitTime() {
+			return waitCount == 0 ? 0 : waitTime / waitCount;
+		}
+	}
+}
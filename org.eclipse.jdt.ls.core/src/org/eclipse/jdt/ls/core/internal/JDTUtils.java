@@ -109,7 +109,6 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
-import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.internal.codeassist.InternalCompletionProposal;
 import org.eclipse.jdt.internal.codeassist.impl.Engine;
 import org.eclipse.jdt.internal.compiler.lookup.Binding;
@@ -1280,7 +1279,7 @@ public final class JDTUtils {
 		if (preferenceManager != null && preferenceManager.isClientSupportsClassFileContent()) {
 			scope |= IJavaSearchScope.APPLICATION_LIBRARIES | IJavaSearchScope.SYSTEM_LIBRARIES;
 		}
-		return SearchEngine.createJavaSearchScope(elements, scope);
+		return SearchScopeCache.getInstance().getSearchScope(elements, scope, false);
 	}
 
 	public static boolean isOnClassPath(ICompilationUnit unit) {
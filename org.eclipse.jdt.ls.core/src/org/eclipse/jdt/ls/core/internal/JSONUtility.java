@@ -14,24 +14,43 @@
 package org.eclipse.jdt.ls.core.internal;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 
 /**
  * JSONUtility
+ *
+ * The Gson instances are thread-safe and cache the type adapters they
+ * create, so they are shared by all the conversions.
  */
 public class JSONUtility {
 
+	private static final Gson GSON = new Gson();
+
+	/**
+	 * Holds the Gson instance configured with the lsp4j type adapters, created
+	 * on first use.
+	 */
+	private static final class Lsp4jGson {
+		private static final Gson INSTANCE = new MessageJsonHandler(new HashMap<>()).getGson();
+	}
+
 	/**
 	 * Converts given JSON objects to given Model objects.
 	 *
 	 * @throws IllegalArgumentException if clazz is null
 	 */
 	public static <T> T toModel(Object object, Class<T> clazz){
-		return toModel(new Gson(), object, clazz);
+		return toModel(GSON, object, clazz);
 	}
 
 	/**
@@ -42,7 +61,50 @@ public class JSONUtility {
 	 *             if clazz is null
 	 */
 	public static <T> T toLsp4jModel(Object object, Class<T> clazz) {
-		return toModel(new MessageJsonHandler(new HashMap<>()).getGson(), object, clazz);
+		return toModel(Lsp4jGson.INSTANCE, object, clazz);
+	}
+
+	/**
+	 * Converts the given JSON object, such as the data of a completion item or
+	 * a code action, to a map of strings. A JSON object is decoded directly,
+	 * without going through Gson: primitive values are converted to their
+	 * string value (so <code>1</code> becomes <code>"1"</code>), and nested
+	 * values to their JSON representation.
+	 *
+	 * @return the map of strings, or <code>null</code> if the object can't be
+	 *         converted
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, String> toStringMap(Object object) {
+		if (object instanceof Map<?, ?> map) {
+			return (Map<String, String>) map;
+		}
+		JsonElement json = null;
+		if (object instanceof JsonElement element) {
+			json = element;
+		} else if (object instanceof String string) {
+			try {
+				json = JsonParser.parseString(string);
+			} catch (JsonParseException e) {
+				return null;
+			}
+		}
+		if (json == null || !json.isJsonObject()) {
+			return null;
+		}
+		JsonObject jsonObject = json.getAsJsonObject();
+		Map<String, String> result = new LinkedHashMap<>(Math.max(4, jsonObject.size() * 2));
+		for (Entry<String, JsonElement> entry : jsonObject.entrySet()) {
+			JsonElement value = entry.getValue();
+			if (value == null || value.isJsonNull()) {
+				result.put(entry.getKey(), null);
+			} else if (value.isJsonPrimitive()) {
+				result.put(entry.getKey(), value.getAsString());
+			} else {
+				result.put(entry.getKey(), value.toString());
+			}
+		}
+		return result;
 	}
 
 	private static <T> T toModel(Gson gson, Object object, Class<T> clazz) {
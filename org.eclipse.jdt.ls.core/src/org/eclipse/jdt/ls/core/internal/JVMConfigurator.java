@@ -15,6 +15,7 @@ package org.eclipse.jdt.ls.core.internal;
 import java.io.File;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Map;
 import java.util.Objects;
@@ -27,6 +28,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
@@ -41,6 +43,7 @@ import org.eclipse.jdt.launching.PropertyChangeEvent;
 import org.eclipse.jdt.launching.VMStandin;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironmentsManager;
+import org.eclipse.jdt.ls.core.internal.managers.DigestStore;
 import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
@@ -58,6 +61,12 @@ public class JVMConfigurator implements IVMInstallChangedListener {
 
 	public static final String MAC_OSX_VM_TYPE = "org.eclipse.jdt.internal.launching.macosx.MacOSXType"; //$NON-NLS-1$
 
+	/**
+	 * The prefix of the keys of the stamps of the validated runtimes in the
+	 * digest store.
+	 */
+	static final String VALIDATED_RUNTIME_KEY_PREFIX = "runtime.validated:";
+
 	public static boolean configureDefaultVM(String javaHome) throws CoreException {
 		if (StringUtils.isBlank(javaHome)) {
 			return false;
@@ -106,9 +115,16 @@ public class JVMConfigurator implements IVMInstallChangedListener {
 	}
 
 	public static boolean configureJVMs(Preferences preferences, JavaClientConnection connection) throws CoreException {
+		try (StartupTimeline.Span span = StartupTimeline.begin("Configure JVMs", "jvm")) {
+			return doConfigureJVMs(preferences, connection);
+		}
+	}
+
+	private static boolean doConfigureJVMs(Preferences preferences, JavaClientConnection connection) throws CoreException {
 		boolean changed = false;
 		boolean defaultVMSet = false;
 		Set<RuntimeEnvironment> runtimes = preferences.getRuntimes();
+		Map<File, String> runtimeStamps = getRuntimeStamps(runtimes);
 		for (RuntimeEnvironment runtime : runtimes) {
 			if (runtime.isValid()) {
 				File file = runtime.getInstallationFile();
@@ -138,7 +154,7 @@ public class JVMConfigurator implements IVMInstallChangedListener {
 						changed = changed || !runtime.getName().equals(vm.getName()) || !runtime.getInstallationFile().equals(vm.getInstallLocation());
 					}
 
-					IStatus status = installType.validateInstallLocation(file);
+					IStatus status = validateInstallLocation(installType, file, runtimeStamps.get(file));
 					if (!status.isOK()) {
 						if (Objects.equals(file.getName(), "bin")) {
 							sendNotification(connection, "Invalid runtime for " + runtime.getName() + ": 'bin' should be removed from the path (" + runtime.getPath() + ").");
@@ -209,6 +225,58 @@ public class JVMConfigurator implements IVMInstallChangedListener {
 		return changed;
 	}
 
+	/**
+	 * Computes the stamps of the installation folders of the given runtimes, see
+	 * {@link #getRuntimeStamp(File)}.
+	 */
+	private static Map<File, String> getRuntimeStamps(Set<RuntimeEnvironment> runtimes) {
+		Map<File, String> stamps = new HashMap<>();
+		for (RuntimeEnvironment runtime : runtimes) {
+			File file = runtime.isValid() ? runtime.getInstallationFile() : null;
+			if (file != null && !stamps.containsKey(file)) {
+				String stamp = getRuntimeStamp(file);
+				if (stamp != null) {
+					stamps.put(file, stamp);
+				}
+			}
+		}
+		return stamps;
+	}
+
+	/**
+	 * @return a stamp of the installation folder of a runtime, changing when the
+	 *         runtime is updated, or <code>null</code> if the folder doesn't
+	 *         contain a java executable
+	 */
+	static String getRuntimeStamp(File installLocation) {
+		if (!installLocation.isDirectory()) {
+			return null;
+		}
+		File javaExecutable = StandardVMType.findJavaExecutable(installLocation);
+		if (javaExecutable == null) {
+			return null;
+		}
+		return installLocation.lastModified() + ":" + javaExecutable.lastModified() + ":" + new File(installLocation, "release").lastModified();
+	}
+
+	/**
+	 * Validates the installation folder of a runtime, unless it has already been
+	 * validated, possibly in a previous session, and hasn't changed since.
+	 */
+	private static IStatus validateInstallLocation(IVMInstallType installType, File installLocation, String stamp) {
+		DigestStore digestStore = JavaLanguageServerPlugin.getInstance() == null ? null : JavaLanguageServerPlugin.getDigestStore();
+		String key = VALIDATED_RUNTIME_KEY_PREFIX + installLocation.getAbsolutePath();
+		if (stamp != null && digestStore != null && stamp.equals(digestStore.getDigest(key))) {
+			return Status.OK_STATUS;
+		}
+		JavaLanguageServerPlugin.logInfo("Validating runtime at " + installLocation);
+		IStatus status = installType.validateInstallLocation(installLocation);
+		if (status.isOK() && stamp != null && digestStore != null) {
+			digestStore.setDigest(key, stamp);
+		}
+		return status;
+	}
+
 	private static void sendNotification(JavaClientConnection connection, String message) {
 		if (connection == null) {
 			return;
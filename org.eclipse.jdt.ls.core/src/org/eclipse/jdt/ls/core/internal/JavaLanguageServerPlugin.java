@@ -21,13 +21,13 @@ import java.net.PasswordAuthentication;
 import java.nio.channels.AsynchronousServerSocketChannel;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.Channels;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.core.internal.net.ProxySelector;
 import org.eclipse.core.net.proxy.IProxyData;
 import org.eclipse.core.net.proxy.IProxyService;
@@ -53,7 +53,6 @@ import org.eclipse.jdt.ls.core.contentassist.ICompletionContributionService;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection.JavaLanguageClient;
 import org.eclipse.jdt.ls.core.internal.corext.template.java.JavaContextTypeRegistry;
 import org.eclipse.jdt.ls.core.internal.corext.template.java.JavaLanguageServerTemplateStore;
-import org.eclipse.jdt.ls.core.internal.handlers.BundleUtils;
 import org.eclipse.jdt.ls.core.internal.handlers.CompletionContributionService;
 import org.eclipse.jdt.ls.core.internal.handlers.JDTLanguageServer;
 import org.eclipse.jdt.ls.core.internal.handlers.LogHandler;
@@ -68,9 +67,10 @@ import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.StandardPreferenceManager;
 import org.eclipse.jdt.ls.core.internal.syntaxserver.SyntaxLanguageServer;
 import org.eclipse.jdt.ls.core.internal.syntaxserver.SyntaxProjectsManager;
+import org.eclipse.lsp4j.Registration;
+import org.eclipse.lsp4j.Unregistration;
 import org.eclipse.lsp4j.jsonrpc.Launcher;
 import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
-import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.text.templates.ContextTypeRegistry;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
@@ -151,6 +151,7 @@ public class JavaLanguageServerPlugin extends Plugin {
 	 */
 	@Override
 	public void start(BundleContext bundleContext) throws Exception {
+		StartupTimeline.Span activation = StartupTimeline.begin("Activate " + IConstants.PLUGIN_ID, "activation");
 		super.start(bundleContext);
 		JavaLanguageServerPlugin.context = bundleContext;
 		JavaLanguageServerPlugin.pluginInstance = this;
@@ -193,12 +194,16 @@ public class JavaLanguageServerPlugin extends Plugin {
 					// start the m2e and buildship plugin before calling JavaCore.setOptions
 					// load maven plugin https://github.com/redhat-developer/vscode-java/issues/2088
 					// https://github.com/redhat-developer/vscode-java/issues/3904 moved from InitHandler.handleInitializationOptions()
-					BundleUtils.startBundle(CorePlugin.PLUGIN_ID);
-					BundleUtils.startBundle(IMavenConstants.PLUGIN_ID);
+					// with the lazy activation, buildship may be started on the first Gradle import instead, which waits for this job
+					FeatureActivator.activateOnStartup();
 					long start = System.currentTimeMillis();
-					JobHelpers.waitForProjectRegistryRefreshJob();
+					try (StartupTimeline.Span span = StartupTimeline.begin("Wait for ProjectRegistryRefreshJob", "wait")) {
+						JobHelpers.waitForProjectRegistryRefreshJob();
+					}
 					JavaLanguageServerPlugin.logInfo("ProjectRegistryRefreshJob finished " + (System.currentTimeMillis() - start) + "ms");
-					JavaCore.initializeAfterLoad(monitor);
+					try (StartupTimeline.Span span = StartupTimeline.begin("Initialize Java model", "index")) {
+						JavaCore.initializeAfterLoad(monitor);
+					}
 				} catch (CoreException e) {
 					logException(e);
 					try {
@@ -221,6 +226,7 @@ public class JavaLanguageServerPlugin extends Plugin {
 		};
 		initializeAfterLoad.setPriority(Job.SHORT);
 		initializeAfterLoad.schedule();
+		activation.close();
 	}
 
 	private void disableServices() {
@@ -387,7 +393,7 @@ public class JavaLanguageServerPlugin extends Plugin {
 				InputStream in = Channels.newInputStream(socketChannel);
 				OutputStream out = Channels.newOutputStream(socketChannel);
 				Function<MessageConsumer, MessageConsumer> messageConsumer = it -> it;
-				launcher = Launcher.createIoLauncher(protocol, JavaLanguageClient.class, in, out, executorService, messageConsumer);
+				launcher = createLauncher(in, out, executorService, messageConsumer);
 			} catch (InterruptedException | ExecutionException e) {
 				throw new RuntimeException("Error when opening a socket channel at " + host + ":" + port + ".", e);
 			}
@@ -401,13 +407,26 @@ public class JavaLanguageServerPlugin extends Plugin {
 			} else {
 				wrapper = new ParentProcessWatcher(this.languageServer);
 			}
-			launcher = Launcher.createLauncher(protocol, JavaLanguageClient.class, in, out, executorService, wrapper);
+			launcher = createLauncher(in, out, executorService, wrapper);
 		}
 		protocol.connectClient(launcher.getRemoteProxy());
 		launcher.startListening();
 		logHandler.setClientConnection(pluginInstance.getClientConnection());
 	}
 
+	private Launcher<JavaLanguageClient> createLauncher(InputStream in, OutputStream out, ExecutorService executorService, Function<MessageConsumer, MessageConsumer> wrapper) {
+		//@formatter:off
+		return new StreamingMessageConsumer.LauncherBuilder<JavaLanguageClient>()
+				.setLocalService(protocol)
+				.setRemoteInterface(JavaLanguageClient.class)
+				.setInput(in)
+				.setOutput(out)
+				.setExecutorService(executorService)
+				.wrapMessages(wrapper)
+				.create();
+		//@formatter:on
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.osgi.framework.BundleActivator#stop(org.osgi.framework.BundleContext)
@@ -431,6 +450,13 @@ public class JavaLanguageServerPlugin extends Plugin {
 		return pluginInstance;
 	}
 
+	/**
+	 * @return the handler forwarding the Eclipse log messages to the client
+	 */
+	public LogHandler getLogHandler() {
+		return logHandler;
+	}
+
 	public static DiagnosticsState getNonProjectDiagnosticsState() {
 		return pluginInstance.nonProjectDiagnosticsState;
 	}
@@ -543,6 +569,18 @@ public class JavaLanguageServerPlugin extends Plugin {
 		}
 	}
 
+	public void unregisterCapabilities(List<Unregistration> unregistrations) {
+		if (protocol != null) {
+			protocol.unregisterCapabilities(unregistrations);
+		}
+	}
+
+	public void registerCapabilities(List<Registration> registrations) {
+		if (protocol != null) {
+			protocol.registerCapabilities(registrations);
+		}
+	}
+
 	public void setProtocol(JDTLanguageServer protocol) {
 		this.protocol = protocol;
 	}
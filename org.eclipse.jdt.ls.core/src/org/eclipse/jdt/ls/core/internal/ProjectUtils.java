@@ -22,12 +22,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,6 +54,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaModelStatus;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.manipulation.CoreASTProvider;
@@ -419,33 +420,81 @@ public final class ProjectUtils {
 	}
 
 	public static void updateBinaries(IJavaProject javaProject, Map<Path, IPath> libraries, IProgressMonitor monitor) throws CoreException {
+		updateBinaries(javaProject, libraries, null, monitor);
+	}
+
+	/**
+	 * Sets the library entries of the given project to the given binaries. The
+	 * entries which did not change are left untouched, so the classpath is only
+	 * set (and the libraries indexed) when libraries are added, removed or have
+	 * a different source attachment.
+	 *
+	 * @param libraries
+	 *            the binaries, with their source attachment
+	 * @param changedBinaries
+	 *            the binaries whose content changed, or <code>null</code> to
+	 *            refresh all the external archives when the classpath does not
+	 *            change
+	 */
+	public static void updateBinaries(IJavaProject javaProject, Map<Path, IPath> libraries, Collection<Path> changedBinaries, IProgressMonitor monitor) throws CoreException {
 		if (monitor.isCanceled()) {
 			return;
 		}
 		IClasspathEntry[] rawClasspath = javaProject.getRawClasspath();
-		List<IClasspathEntry> newEntries = Arrays.stream(rawClasspath).filter(cpe -> cpe.getEntryKind() != IClasspathEntry.CPE_LIBRARY).collect(Collectors.toCollection(ArrayList::new));
-		List<IClasspathEntry> libEntries = Arrays.stream(rawClasspath).filter(cpe -> cpe.getEntryKind() == IClasspathEntry.CPE_LIBRARY && cpe.getSourceAttachmentPath() != null && cpe.getSourceAttachmentPath().toFile().exists())
-				.collect(Collectors.toCollection(ArrayList::new));
-
+		Map<IPath, IPath> newLibraries = new LinkedHashMap<>();
 		for (Map.Entry<Path, IPath> library : libraries.entrySet()) {
+			newLibraries.put(new org.eclipse.core.runtime.Path(library.getKey().toString()), library.getValue());
+		}
+
+		List<IClasspathEntry> newEntries = new ArrayList<>(rawClasspath.length + newLibraries.size());
+		for (IClasspathEntry entry : rawClasspath) {
+			if (entry.getEntryKind() != IClasspathEntry.CPE_LIBRARY) {
+				newEntries.add(entry);
+				continue;
+			}
+			if (!newLibraries.containsKey(entry.getPath())) {
+				JavaLanguageServerPlugin.logInfo(">> Removing " + entry.getPath() + " from the classpath");
+				continue;
+			}
+			IPath source = newLibraries.remove(entry.getPath());
+			IPath currentSource = entry.getSourceAttachmentPath();
+			if (source == null && currentSource != null && currentSource.toFile().exists()) {
+				source = currentSource;
+			}
+			newEntries.add(Objects.equals(source, currentSource) ? entry : JavaCore.newLibraryEntry(entry.getPath(), source, null));
+		}
+		for (Map.Entry<IPath, IPath> library : newLibraries.entrySet()) {
 			if (monitor.isCanceled()) {
 				return;
 			}
-			IPath binary = new org.eclipse.core.runtime.Path(library.getKey().toString());
-			IPath source = library.getValue();
-			if (source == null && !libEntries.isEmpty()) {
-				Optional<IClasspathEntry> result = libEntries.stream().filter(cpe -> cpe.getPath().equals(binary)).findAny();
-				source = result.isPresent() ? result.get().getSourceAttachmentPath() : null;
-			}
-			IClasspathEntry newEntry = JavaCore.newLibraryEntry(binary, source, null);
-			JavaLanguageServerPlugin.logInfo(">> Adding " + binary + " to the classpath");
-			newEntries.add(newEntry);
+			JavaLanguageServerPlugin.logInfo(">> Adding " + library.getKey() + " to the classpath");
+			newEntries.add(JavaCore.newLibraryEntry(library.getKey(), library.getValue(), null));
 		}
+
 		IClasspathEntry[] newClasspath = newEntries.toArray(new IClasspathEntry[newEntries.size()]);
-		if (!Arrays.equals(rawClasspath, newClasspath)) {
+		boolean classpathChanged = !Arrays.equals(rawClasspath, newClasspath);
+		if (classpathChanged) {
 			javaProject.setRawClasspath(newClasspath, monitor);
+		}
+		if (changedBinaries == null) {
+			if (!classpathChanged) {
+				javaProject.getJavaModel().refreshExternalArchives(new IJavaElement[] { javaProject }, monitor);
+			}
 		} else {
-			javaProject.getJavaModel().refreshExternalArchives(new IJavaElement[]{javaProject}, monitor);
+			// the added libraries are indexed anyway
+			List<IJavaElement> changedRoots = new ArrayList<>();
+			for (Path binary : changedBinaries) {
+				IPath path = new org.eclipse.core.runtime.Path(binary.toString());
+				if (!newLibraries.containsKey(path)) {
+					IPackageFragmentRoot root = javaProject.findPackageFragmentRoot(path);
+					if (root != null) {
+						changedRoots.add(root);
+					}
+				}
+			}
+			if (!changedRoots.isEmpty()) {
+				javaProject.getJavaModel().refreshExternalArchives(changedRoots.toArray(new IJavaElement[changedRoots.size()]), monitor);
+			}
 		}
 	}
 
@@ -497,7 +546,7 @@ public final class ProjectUtils {
 		return Files.isRegularFile(sourcePath) ? new org.eclipse.core.runtime.Path(sourcePath.toString()) : null;
 	}
 
-	private static boolean isBinary(Path file) {
+	public static boolean isBinary(Path file) {
 		String fileName = file.getFileName().toString();
 		return (fileName.endsWith(JAR_SUFFIX)
 				//skip source jar files
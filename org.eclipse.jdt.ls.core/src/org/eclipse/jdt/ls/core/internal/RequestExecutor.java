@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+
+/**
+ * Selects the executor the requests are computed on.
+ *
+ * By default, the requests are computed on the common
+ * {@link java.util.concurrent.ForkJoinPool} and this class isn't involved.
+ * When the server is launched with <code>-Djdt.ls.requestExecutor=virtual</code>,
+ * each request is computed on its own virtual thread instead, and:
+ * <ul>
+ * <li>at most <code>jdt.ls.requestExecutor.maxSearches</code> (2 by default)
+ * search requests (references, implementations, call hierarchy, ...) and at
+ * most <code>jdt.ls.requestExecutor.maxBuilds</code> (1 by default) build
+ * requests are computed at a time, the others waiting for their turn;</li>
+ * <li>at most <code>jdt.ls.requestExecutor.maxRequests</code> other requests
+ * are computed at a time;</li>
+ * <li>the latency-critical requests (hover, signature help, semantic tokens,
+ * document highlights) are computed on a small pool of
+ * <code>jdt.ls.requestExecutor.interactiveThreads</code> (2 by default)
+ * platform threads, which the other requests can't occupy.</li>
+ * </ul>
+ *
+ * On Java 21, a virtual thread blocked in a <code>synchronized</code> block
+ * (or waiting in <code>Object.wait()</code> beyond the scheduler's
+ * compensation) pins its carrier thread, and JDT and the platform block in
+ * synchronized code a lot. Once all the carrier threads are pinned, no virtual
+ * thread can make progress. The default
+ * <code>jdt.ls.requestExecutor.maxRequests</code> is therefore the number of
+ * carrier threads (<code>jdk.virtualThreadScheduler.parallelism</code>) left
+ * by the search and build requests, so that the lanes together can't pin all
+ * of them.
+ */
+public final class RequestExecutor {
+
+	public static final String EXECUTOR_PROPERTY = "jdt.ls.requestExecutor";
+	public static final String VIRTUAL_EXECUTOR = "virtual";
+	public static final String MAX_SEARCHES_PROPERTY = "jdt.ls.requestExecutor.maxSearches";
+	public static final String MAX_BUILDS_PROPERTY = "jdt.ls.requestExecutor.maxBuilds";
+	public static final String MAX_REQUESTS_PROPERTY = "jdt.ls.requestExecutor.maxRequests";
+	public static final String INTERACTIVE_THREADS_PROPERTY = "jdt.ls.requestExecutor.interactiveThreads";
+
+	/**
+	 * The kinds of requests which are scheduled separately.
+	 */
+	public enum Lane {
+		DEFAULT, SEARCH, BUILD, INTERACTIVE
+	}
+
+	private static RequestExecutor instance;
+
+	private final Map<Lane, Executor> executors = new EnumMap<>(Lane.class);
+
+	RequestExecutor(boolean virtual) {
+		if (virtual) {
+			ExecutorService virtualThreads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jdt.ls-request-", 0).factory());
+			int maxSearches = getLimit(MAX_SEARCHES_PROPERTY, 2);
+			int maxBuilds = getLimit(MAX_BUILDS_PROPERTY, 1);
+			int carrierThreads = getLimit("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+			executors.put(Lane.DEFAULT, new LimitedExecutor(virtualThreads, getLimit(MAX_REQUESTS_PROPERTY, carrierThreads - maxSearches - maxBuilds)));
+			executors.put(Lane.SEARCH, new LimitedExecutor(virtualThreads, maxSearches));
+			executors.put(Lane.BUILD, new LimitedExecutor(virtualThreads, maxBuilds));
+			AtomicInteger count = new AtomicInteger();
+			executors.put(Lane.INTERACTIVE, Executors.newFixedThreadPool(getLimit(INTERACTIVE_THREADS_PROPERTY, 2), runnable -> {
+				Thread thread = new Thread(runnable, "jdt.ls-interactive-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}));
+			JavaLanguageServerPlugin.logInfo("Computing requests on virtual threads");
+		}
+	}
+
+	public static synchronized RequestExecutor getInstance() {
+		if (instance == null) {
+			instance = new RequestExecutor(VIRTUAL_EXECUTOR.equals(System.getProperty(EXECUTOR_PROPERTY)));
+		}
+		return instance;
+	}
+
+	/**
+	 * @return the executor of the given lane, or <code>null</code> if the
+	 *         requests are computed on the default executor
+	 */
+	public Executor getExecutor(Lane lane) {
+		return executors.get(lane);
+	}
+
+	/**
+	 * Computes the given code on the executor of the given lane.
+	 */
+	public <R> CompletableFuture<R> computeAsync(Lane lane, Function<CancelChecker, R> code) {
+		Executor executor = getExecutor(lane);
+		if (executor == null) {
+			return CompletableFutures.computeAsync(code);
+		}
+		return CompletableFutures.computeAsync(executor, code);
+	}
+
+	private static int getLimit(String property, int defaultValue) {
+		return Math.max(1, Integer.getInteger(property, defaultValue));
+	}
+
+	/**
+	 * Runs at most a given number of tasks at a time, on the virtual threads.
+	 * The tasks waiting for their turn block their (virtual) thread.
+	 */
+	private static final class LimitedExecutor implements Executor {
+
+		private final Executor executor;
+		private final Semaphore permits;
+
+		LimitedExecutor(Executor executor, int limit) {
+			this.executor = executor;
+			this.permits = new Semaphore(limit, true);
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			executor.execute(() -> {
+				permits.acquireUninterruptibly();
+				try {
+					command.run();
+				} finally {
+					permits.release();
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+
+/**
+ * Caches the Java search scopes spanning several projects. Creating such a
+ * scope walks the resolved classpath of every project, which is costly in
+ * large workspaces, while the scopes only change when a classpath does.
+ *
+ * The cache is cleared when projects are added, removed, opened or closed,
+ * and when the classpath of a project changes.
+ */
+public class SearchScopeCache implements IElementChangedListener {
+
+	private static SearchScopeCache instance;
+
+	private final Map<String, IJavaSearchScope> scopes = new ConcurrentHashMap<>();
+
+	public static synchronized SearchScopeCache getInstance() {
+		if (instance == null) {
+			instance = new SearchScopeCache();
+			JavaCore.addElementChangedListener(instance, ElementChangedEvent.POST_CHANGE);
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the search scope of the given projects, as created by
+	 * {@link SearchEngine#createJavaSearchScope(boolean, IJavaElement[], int)}.
+	 */
+	public IJavaSearchScope getSearchScope(IJavaProject[] projects, int includeMask, boolean excludeTestCode) {
+		StringBuilder key = new StringBuilder();
+		key.append(includeMask).append(excludeTestCode ? 't' : 'f');
+		for (IJavaProject project : projects) {
+			key.append('/').append(project.getElementName());
+		}
+		return scopes.computeIfAbsent(key.toString(), k -> SearchEngine.createJavaSearchScope(excludeTestCode, projects, includeMask));
+	}
+
+	public void invalidate() {
+		scopes.clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (!scopes.isEmpty() && affectsScopes(event.getDelta())) {
+			invalidate();
+		}
+	}
+
+	private static boolean affectsScopes(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (affectsScopes(child)) {
+						return true;
+					}
+				}
+				return false;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					return true;
+				}
+				int flags = IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED;
+				if ((delta.getFlags() & flags) != 0) {
+					return true;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (affectsScopes(child)) {
+						return true;
+					}
+				}
+				return false;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				return delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH)) != 0;
+			default:
+				return false;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.internal.launching.StandardVMType;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstallType;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.LibraryLocation;
+import org.eclipse.jdt.launching.VMStandin;
+import org.eclipse.jdt.ls.core.internal.handlers.IndexUtils;
+import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager;
+
+/**
+ * Headless application building the JDT indexes of JDKs and libraries into
+ * the shared index location (<code>-Djdt.core.sharedIndexLocation</code>), so
+ * that they can be produced ahead of time (e.g. when building a container
+ * image) and imported by the language servers started later on.
+ *
+ * Usage: <code>-application org.eclipse.jdt.ls.core.indexer [-jdk &lt;java home&gt;]* [-lib &lt;jar or directory&gt;]*</code>
+ */
+public class SharedIndexGeneratorApplication implements IApplication {
+
+	public static final String ARG_JDK = "-jdk";
+	public static final String ARG_LIBRARY = "-lib";
+
+	private static final String PROJECT_NAME = "jdt.ls-shared-indexes";
+	private static final Integer EXIT_ERROR = Integer.valueOf(1);
+
+	@Override
+	public Object start(IApplicationContext context) throws Exception {
+		String[] args = (String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+		if (StringUtils.isBlank(System.getProperty(IndexUtils.SHARED_INDEX_LOCATION_PROPERTY))) {
+			System.err.println("The shared index location must be set with -D" + IndexUtils.SHARED_INDEX_LOCATION_PROPERTY);
+			return EXIT_ERROR;
+		}
+
+		Set<IClasspathEntry> entries = new LinkedHashSet<>();
+		try {
+			for (int i = 0; args != null && i < args.length - 1; i++) {
+				if (ARG_JDK.equals(args[i])) {
+					entries.addAll(getJdkEntries(new File(args[++i])));
+				} else if (ARG_LIBRARY.equals(args[i])) {
+					for (File library : getLibraries(new File(args[++i]))) {
+						entries.add(JavaCore.newLibraryEntry(org.eclipse.core.runtime.Path.fromOSString(library.getAbsolutePath()), null, null));
+					}
+				}
+			}
+		} catch (IllegalArgumentException | IOException e) {
+			System.err.println(e.getMessage());
+			return EXIT_ERROR;
+		}
+
+		if (entries.isEmpty()) {
+			System.err.println("Nothing to index, use " + ARG_JDK + " <java home> or " + ARG_LIBRARY + " <jar or directory>");
+			return EXIT_ERROR;
+		}
+
+		context.applicationRunning();
+		long start = System.currentTimeMillis();
+		int count = generateIndexes(entries);
+		System.out.println(String.format("Generated %d shared indexes for %d libraries in %dms", count, entries.size(), System.currentTimeMillis() - start));
+		return IApplication.EXIT_OK;
+	}
+
+	@Override
+	public void stop() {
+		// nothing to do, the indexing is not interruptible
+	}
+
+	private int generateIndexes(Set<IClasspathEntry> entries) throws CoreException {
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		try {
+			ProjectsManager.createJavaProject(project, null, null, "bin", monitor);
+			IJavaProject javaProject = JavaCore.create(project);
+			javaProject.setRawClasspath(entries.toArray(IClasspathEntry[]::new), monitor);
+			return IndexUtils.exportIndexesToSharedLocation(new IJavaProject[] { javaProject });
+		} finally {
+			if (project.exists()) {
+				project.delete(true, true, monitor);
+			}
+			ResourcesPlugin.getWorkspace().save(true, monitor);
+		}
+	}
+
+	private static List<IClasspathEntry> getJdkEntries(File javaHome) throws CoreException {
+		if (!javaHome.isDirectory()) {
+			throw new IllegalArgumentException(javaHome + " is not a directory");
+		}
+		IVMInstall vm = JVMConfigurator.findVM(javaHome, null);
+		if (vm == null) {
+			IVMInstallType installType = JavaRuntime.getVMInstallType(StandardVMType.ID_STANDARD_VM_TYPE);
+			if (installType.validateInstallLocation(javaHome).getSeverity() == IStatus.ERROR) {
+				throw new IllegalArgumentException(javaHome + " is not a valid JDK");
+			}
+			long unique = System.currentTimeMillis();
+			while (installType.findVMInstall(String.valueOf(unique)) != null) {
+				unique++;
+			}
+			VMStandin vmStandin = new VMStandin(installType, String.valueOf(unique));
+			vmStandin.setName(StringUtils.defaultIfBlank(javaHome.getName(), "JRE"));
+			vmStandin.setInstallLocation(javaHome);
+			vm = vmStandin.convertToRealVM();
+		}
+		List<IClasspathEntry> entries = new ArrayList<>();
+		for (LibraryLocation location : JavaRuntime.getLibraryLocations(vm)) {
+			entries.add(JavaCore.newLibraryEntry(location.getSystemLibraryPath(), null, null));
+		}
+		return entries;
+	}
+
+	private static List<File> getLibraries(File file) throws IOException {
+		if (file.isFile()) {
+			return List.of(file);
+		}
+		if (!file.isDirectory()) {
+			throw new IllegalArgumentException(file + " does not exist");
+		}
+		try (Stream<Path> paths = Files.walk(file.toPath())) {
+			return paths.filter(p -> Files.isRegularFile(p) && p.getFileName().toString().endsWith(".jar")).map(Path::toFile).toList();
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Records the spans of the start up phases of the language server (bundle
+ * activation, preferences, JVM configuration, project import, build, ...),
+ * and exports them as a Chrome trace file (to be opened in
+ * <code>chrome://tracing</code> or https://ui.perfetto.dev) in the metadata
+ * of the workspace, to see where the start up time is spent.
+ *
+ * The spans are recorded until the timeline is exported, the timestamps being
+ * relative to the start of the JVM.
+ */
+public final class StartupTimeline {
+
+	public static final String TRACE_FILE_NAME = "startup-trace.json";
+
+	/**
+	 * The maximum number of recorded spans, in case the timeline is never
+	 * exported.
+	 */
+	static final int MAX_SPANS = 10_000;
+
+	private static final Span NO_SPAN = new Span(null, null, null, 0) {
+		@Override
+		public void close() {
+		}
+	};
+
+	private static final long ORIGIN_NANOS = System.nanoTime();
+	private static final long ORIGIN_UPTIME_MICROS = getUptimeMicros();
+
+	private static final List<Span> spans = new ArrayList<>();
+	private static volatile boolean recording = true;
+
+	private StartupTimeline() {
+		// no instances
+	}
+
+	/**
+	 * Starts a span, to be closed when the phase ends:
+	 *
+	 * <pre>
+	 * try (StartupTimeline.Span span = StartupTimeline.begin("Import projects", "import")) {
+	 * 	...
+	 * }
+	 * </pre>
+	 *
+	 * @param name
+	 *            the name of the phase
+	 * @param category
+	 *            the category of the phase
+	 * @return the span, doing nothing when the timeline isn't recorded anymore
+	 */
+	public static Span begin(String name, String category) {
+		if (!recording) {
+			return NO_SPAN;
+		}
+		return new Span(name, category, Thread.currentThread(), System.nanoTime());
+	}
+
+	/**
+	 * @return whether the spans are recorded
+	 */
+	public static boolean isRecording() {
+		return recording;
+	}
+
+	/**
+	 * Stops recording and writes the recorded spans to
+	 * {@value #TRACE_FILE_NAME} in the state location of the plugin.
+	 */
+	public static void export() {
+		JavaLanguageServerPlugin plugin = JavaLanguageServerPlugin.getInstance();
+		if (plugin == null || !recording) {
+			return;
+		}
+		File file = plugin.getStateLocation().append(TRACE_FILE_NAME).toFile();
+		try {
+			export(file);
+			JavaLanguageServerPlugin.logInfo("Startup timeline written to " + file);
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Failed to write the startup timeline to " + file, e);
+		}
+	}
+
+	/**
+	 * Stops recording and writes the recorded spans to the given file, in the
+	 * Chrome trace event format.
+	 */
+	static void export(File file) throws IOException {
+		recording = false;
+		JsonArray events = toTraceEvents();
+		JsonObject trace = new JsonObject();
+		trace.add("traceEvents", events);
+		trace.addProperty("displayTimeUnit", "ms");
+		file.getParentFile().mkdirs();
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			new Gson().toJson(trace, writer);
+		}
+	}
+
+	static JsonArray toTraceEvents() {
+		List<Span> recorded;
+		synchronized (spans) {
+			recorded = new ArrayList<>(spans);
+		}
+		long pid = ProcessHandle.current().pid();
+		JsonArray events = new JsonArray();
+		Map<Long, String> threads = new HashMap<>();
+		for (Span span : recorded) {
+			JsonObject event = new JsonObject();
+			event.addProperty("name", span.name);
+			event.addProperty("cat", span.category);
+			event.addProperty("ph", "X");
+			event.addProperty("ts", toMicros(span.startNanos));
+			event.addProperty("dur", TimeUnit.NANOSECONDS.toMicros(span.endNanos - span.startNanos));
+			event.addProperty("pid", pid);
+			event.addProperty("tid", span.threadId);
+			events.add(event);
+			threads.putIfAbsent(span.threadId, span.threadName);
+		}
+		for (Map.Entry<Long, String> thread : threads.entrySet()) {
+			JsonObject event = new JsonObject();
+			event.addProperty("name", "thread_name");
+			event.addProperty("ph", "M");
+			event.addProperty("pid", pid);
+			event.addProperty("tid", thread.getKey());
+			JsonObject args = new JsonObject();
+			args.addProperty("name", thread.getValue());
+			event.add("args", args);
+			events.add(event);
+		}
+		return events;
+	}
+
+	/**
+	 * Restarts recording with no spans, for testing purpose.
+	 */
+	static void reset() {
+		synchronized (spans) {
+			spans.clear();
+		}
+		recording = true;
+	}
+
+	private static long toMicros(long nanos) {
+		return ORIGIN_UPTIME_MICROS + TimeUnit.NANOSECONDS.toMicros(nanos - ORIGIN_NANOS);
+	}
+
+	private static long getUptimeMicros() {
+		try {
+			return TimeUnit.MILLISECONDS.toMicros(ManagementFactory.getRuntimeMXBean().getUptime());
+		} catch (Throwable e) {
+			// java.management isn't available
+			return 0;
+		}
+	}
+
+	/**
+	 * A phase of the start up, recorded when closed.
+	 */
+	public static class Span implements AutoCloseable {
+
+		private final String name;
+		private final String category;
+		private final long threadId;
+		private final String threadName;
+		private final long startNanos;
+		private long endNanos;
+
+		private Span(String name, String category, Thread thread, long startNanos) {
+			this.name = name;
+			this.category = category;
+			this.threadId = thread == null ? 0 : thread.threadId();
+			this.threadName = thread == null ? null : thread.getName();
+			this.startNanos = startNanos;
+		}
+
+		@Override
+		public void close() {
+			endNanos = System.nanoTime();
+			synchronized (spans) {
+				if (recording && spans.size() < MAX_SPANS) {
+					spans.add(this);
+				}
+			}
+		}
+	}
+}
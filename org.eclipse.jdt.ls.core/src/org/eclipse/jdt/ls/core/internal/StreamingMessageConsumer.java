@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+
+/**
+ * A message consumer serializing the messages straight into pooled byte
+ * chunks, instead of a string which is then encoded, so that a large response
+ * (workspace edit, semantic tokens, ...) is materialized only once, in bytes.
+ * The Content-Length header is computed from the size of the chunks, and the
+ * chunks are written to the output after the header.
+ */
+public class StreamingMessageConsumer extends StreamMessageConsumer {
+
+	static final int CHUNK_SIZE = 16 * 1024;
+
+	/**
+	 * The maximum number of chunks kept in the pool between two messages.
+	 */
+	private static final int MAX_POOLED_CHUNKS = 64;
+
+	private final MessageJsonHandler jsonHandler;
+	private final Object outputLock = new Object();
+	private final Queue<byte[]> pool = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pooled = new AtomicInteger();
+
+	public StreamingMessageConsumer(OutputStream output, MessageJsonHandler jsonHandler) {
+		super(output, StandardCharsets.UTF_8.name(), jsonHandler);
+		this.jsonHandler = jsonHandler;
+	}
+
+	@Override
+	public void consume(Message message) {
+		ChunkedOutputStream content = new ChunkedOutputStream();
+		try {
+			Writer writer = new OutputStreamWriter(content, StandardCharsets.UTF_8);
+			jsonHandler.serialize(message, writer);
+			writer.flush();
+			byte[] header = getHeader(content.size()).getBytes(StandardCharsets.US_ASCII);
+			synchronized (outputLock) {
+				OutputStream output = getOutput();
+				output.write(header);
+				content.writeTo(output);
+				output.flush();
+			}
+		} catch (IOException e) {
+			throw new JsonRpcException(e);
+		} finally {
+			content.release();
+		}
+	}
+
+	/**
+	 * @return the number of chunks currently pooled
+	 */
+	int getPooledChunks() {
+		return pooled.get();
+	}
+
+	/**
+	 * An output stream collecting the bytes in a list of chunks taken from the
+	 * pool.
+	 */
+	private class ChunkedOutputStream extends OutputStream {
+
+		private final List<byte[]> chunks = new ArrayList<>();
+		private byte[] current;
+		private int position;
+		private int size;
+
+		@Override
+		public void write(int b) {
+			if (current == null || position == current.length) {
+				nextChunk();
+			}
+			current[position++] = (byte) b;
+			size++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			while (len > 0) {
+				if (current == null || position == current.length) {
+					nextChunk();
+				}
+				int count = Math.min(len, current.length - position);
+				System.arraycopy(b, off, current, position, count);
+				position += count;
+				size += count;
+				off += count;
+				len -= count;
+			}
+		}
+
+		int size() {
+			return size;
+		}
+
+		void writeTo(OutputStream output) throws IOException {
+			for (int i = 0; i < chunks.size(); i++) {
+				byte[] chunk = chunks.get(i);
+				output.write(chunk, 0, i == chunks.size() - 1 ? position : chunk.length);
+			}
+		}
+
+		void release() {
+			for (byte[] chunk : chunks) {
+				if (pooled.incrementAndGet() <= MAX_POOLED_CHUNKS) {
+					pool.offer(chunk);
+				} else {
+					pooled.decrementAndGet();
+				}
+			}
+			chunks.clear();
+			current = null;
+		}
+
+		private void nextChunk() {
+			current = pool.poll();
+			if (current == null) {
+				current = new byte[CHUNK_SIZE];
+			} else {
+				pooled.decrementAndGet();
+			}
+			chunks.add(current);
+			position = 0;
+		}
+	}
+
+	/**
+	 * A launcher builder sending the messages with a
+	 * {@link StreamingMessageConsumer}.
+	 */
+	public static class LauncherBuilder<T> extends Launcher.Builder<T> {
+
+		private MessageJsonHandler jsonHandler;
+
+		@Override
+		protected MessageJsonHandler createJsonHandler() {
+			jsonHandler = super.createJsonHandler();
+			return jsonHandler;
+		}
+
+		@Override
+		protected MessageConsumer wrapMessageConsumer(MessageConsumer consumer) {
+			if (consumer instanceof StreamMessageConsumer streamConsumer && !(consumer instanceof StreamingMessageConsumer)) {
+				consumer = new StreamingMessageConsumer(streamConsumer.getOutput(), jsonHandler);
+			}
+			return super.wrapMessageConsumer(consumer);
+		}
+	}
+}
@@ -95,8 +95,7 @@ public class TypeHierarchyCommand {
 					targetMethod = (IMethod) member;
 				}
 			} else {
-				@SuppressWarnings("unchecked")
-				Map<String, String> data = JSONUtility.toModel(itemInput.getData(), Map.class);
+				Map<String, String> data = JSONUtility.toStringMap(itemInput.getData());
 				String handleIdentifier = data.get("element");
 				IJavaElement element = JavaCore.create(handleIdentifier);
 				String methodIdentifier = data.get("method");
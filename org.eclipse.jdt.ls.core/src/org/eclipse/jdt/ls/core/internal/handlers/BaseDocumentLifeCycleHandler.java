@@ -353,6 +353,13 @@ public abstract class BaseDocumentLifeCycleHandler {
 		if (resource != null) { // Open a managed file from the existing projects.
 			handleOpen(params);
 		} else { // Open an unmanaged file, use a workspace runnable to mount it to default project or invisible project.
+			if (preferenceManager.getPreferences().isImportLazyEnabled()) {
+				// import the project of the file, it is opened in the default project until then
+				ProjectsManager projectsManager = JavaLanguageServerPlugin.getProjectsManager();
+				if (projectsManager != null) {
+					projectsManager.getLazyImporter().importFor(uri);
+				}
+			}
 			try {
 				ResourcesPlugin.getWorkspace().run((IWorkspaceRunnable) monitor -> handleOpen(params), null, IWorkspace.AVOID_UPDATE, new NullProgressMonitor());
 			} catch (CoreException e) {
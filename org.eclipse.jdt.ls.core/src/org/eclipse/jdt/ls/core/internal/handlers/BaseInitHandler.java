@@ -34,6 +34,7 @@ import org.eclipse.jdt.ls.core.internal.JVMConfigurator;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.LanguageServerApplication;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
+import org.eclipse.jdt.ls.core.internal.StartupTimeline;
 import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
@@ -65,8 +66,10 @@ public abstract class BaseInitHandler {
 		logInfo("Initializing " + jdtlsInfo.details());
 		InitializeResult result = new InitializeResult();
 		result.setServerInfo(jdtlsInfo.toServerInfo());
-		handleInitializationOptions(param);
-		registerCapabilities(result);
+		try (StartupTimeline.Span span = StartupTimeline.begin("Initialize", "initialize")) {
+			handleInitializationOptions(param);
+			registerCapabilities(result);
+		}
 
 		// At the end of the InitHandler, trigger a job to import the workspace. This is used to ensure ServiceStatus notification
 		// is not sent before the initialize response. See the bug https://github.com/redhat-developer/vscode-java/issues/1056
@@ -141,9 +144,12 @@ public abstract class BaseInitHandler {
 			rootPaths.add(workspaceLocation);
 		}
 		if (initializationOptions.get(SETTINGS_KEY) instanceof Map<?, ?> settings) {
-			Preferences prefs = Preferences.createFrom((Map<String, Object>) settings);
-			prefs.setRootPaths(rootPaths);
-			preferenceManager.update(prefs);
+			Preferences prefs;
+			try (StartupTimeline.Span span = StartupTimeline.begin("Parse preferences", "preferences")) {
+				prefs = Preferences.createFrom((Map<String, Object>) settings);
+				prefs.setRootPaths(rootPaths);
+				preferenceManager.update(prefs);
+			}
 			try {
 				ProjectsManager.setAutoBuilding(preferenceManager.getPreferences().isAutobuildEnabled());
 			} catch (CoreException e) {
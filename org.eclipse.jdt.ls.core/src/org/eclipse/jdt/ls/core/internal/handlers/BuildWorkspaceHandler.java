@@ -16,6 +16,7 @@ import static org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin.logError
 import static org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin.logException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -57,15 +58,17 @@ public class BuildWorkspaceHandler {
 			if (ProjectsManager.getDefaultProject().exists()) {
 				ProjectsManager.cleanupResources(ProjectsManager.getDefaultProject());
 			}
+			IProject[] projects = ProjectUtils.getAllProjects();
+			List<IProject> projectsToBuild = Arrays.stream(projects).filter(this::hasBuilder).collect(Collectors.toList());
+			WorkspaceBuildScheduler scheduler = new WorkspaceBuildScheduler(ResourcesPlugin.getWorkspace());
 			if (forceReBuild) {
 				SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
 				ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.CLEAN_BUILD, subMonitor.split(50));
-				ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.FULL_BUILD, subMonitor.split(50));
+				scheduler.build(projectsToBuild, IncrementalProjectBuilder.FULL_BUILD, subMonitor.split(50));
 			} else {
-				ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor);
+				scheduler.build(projectsToBuild, IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor);
 			}
 			List<IMarker> problemMarkers = new ArrayList<>();
-			IProject[] projects = ProjectUtils.getAllProjects();
 			for (IProject project : projects) {
 				if (!project.equals(ProjectsManager.getDefaultProject())) {
 					List<IMarker> markers = ResourceUtils.getErrorMarkers(project);
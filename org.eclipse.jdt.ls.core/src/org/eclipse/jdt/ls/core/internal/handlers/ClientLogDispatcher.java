@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
+import org.eclipse.jdt.ls.core.internal.managers.TelemetryEvent;
+import org.eclipse.lsp4j.MessageType;
+
+/**
+ * Sends the log messages and the error telemetry events to the client from a
+ * dedicated thread, so that logging never blocks the caller on the client
+ * connection.
+ *
+ * The messages are queued and sent every {@value #FLUSH_INTERVAL_MILLIS}ms,
+ * the consecutive messages of the same type being sent in a single
+ * notification. A message logged again while it's still queued isn't queued
+ * twice, it's sent once with the number of times it was repeated. At most
+ * {@value #MAX_PENDING_MESSAGES} distinct messages are queued, the messages
+ * logged beyond that are dropped and reported in a summary message.
+ */
+public class ClientLogDispatcher {
+
+	static final long FLUSH_INTERVAL_MILLIS = 100;
+	static final int MAX_PENDING_MESSAGES = 1000;
+	private static final int MAX_PENDING_EVENTS = 100;
+
+	private final JavaClientConnection connection;
+	private final Map<PendingMessage, PendingMessage> pendingMessages = new LinkedHashMap<>();
+	private final List<TelemetryEvent> pendingEvents = new ArrayList<>();
+	private final ScheduledExecutorService executor;
+
+	private final AtomicLong sentCount = new AtomicLong();
+	private final AtomicLong summarizedCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private long reportedDroppedCount;
+
+	public ClientLogDispatcher(JavaClientConnection connection) {
+		this(connection, FLUSH_INTERVAL_MILLIS);
+	}
+
+	ClientLogDispatcher(JavaClientConnection connection, long flushIntervalMillis) {
+		this.connection = connection;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Client Log Dispatcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Queues a message to be logged by the client.
+	 *
+	 * @param type
+	 *            the type of the message
+	 * @param prefix
+	 *            the prefix of the message (e.g. its date), which isn't taken
+	 *            into account to detect the repeated messages
+	 * @param message
+	 *            the message
+	 */
+	public void logMessage(MessageType type, String prefix, String message) {
+		PendingMessage key = new PendingMessage(type, message);
+		synchronized (pendingMessages) {
+			PendingMessage pending = pendingMessages.get(key);
+			if (pending != null) {
+				pending.count++;
+				summarizedCount.incrementAndGet();
+			} else if (pendingMessages.size() < MAX_PENDING_MESSAGES) {
+				key.prefix = prefix;
+				pendingMessages.put(key, key);
+			} else {
+				droppedCount.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Queues a telemetry event to be sent to the client.
+	 */
+	public void telemetryEvent(TelemetryEvent event) {
+		synchronized (pendingMessages) {
+			if (pendingEvents.size() < MAX_PENDING_EVENTS) {
+				pendingEvents.add(event);
+			} else {
+				droppedCount.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Sends the queued messages and events to the client.
+	 */
+	public synchronized void flush() {
+		List<PendingMessage> messages;
+		List<TelemetryEvent> events;
+		long dropped;
+		synchronized (pendingMessages) {
+			if (pendingMessages.isEmpty() && pendingEvents.isEmpty() && droppedCount.get() == reportedDroppedCount) {
+				return;
+			}
+			messages = new ArrayList<>(pendingMessages.values());
+			pendingMessages.clear();
+			events = new ArrayList<>(pendingEvents);
+			pendingEvents.clear();
+			dropped = droppedCount.get() - reportedDroppedCount;
+			reportedDroppedCount += dropped;
+		}
+		try {
+			StringBuilder batch = new StringBuilder();
+			MessageType batchType = null;
+			for (PendingMessage message : messages) {
+				if (batchType != message.type && batch.length() > 0) {
+					connection.logMessage(batchType, batch.toString());
+					batch.setLength(0);
+				}
+				batchType = message.type;
+				if (batch.length() > 0) {
+					batch.append('\n');
+				}
+				batch.append(message.prefix).append(message.message);
+				if (message.count > 1) {
+					batch.append("\n(repeated ").append(message.count).append(" times)");
+				}
+				sentCount.incrementAndGet();
+			}
+			if (batch.length() > 0) {
+				connection.logMessage(batchType, batch.toString());
+			}
+			if (dropped > 0) {
+				connection.logMessage(MessageType.Warning, dropped + " log messages were dropped, too many messages were logged.");
+			}
+			for (TelemetryEvent event : events) {
+				connection.telemetryEvent(event);
+			}
+		} catch (RuntimeException e) {
+			// the client connection is closed, nowhere to report it
+		}
+	}
+
+	/**
+	 * Stops the dispatcher and sends the queued messages, after the ones being
+	 * sent by the dispatcher's thread, if any.
+	 */
+	public void dispose() {
+		executor.shutdown();
+		flush();
+	}
+
+	public long getSentCount() {
+		return sentCount.get();
+	}
+
+	public long getSummarizedCount() {
+		return summarizedCount.get();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	private static final class PendingMessage {
+
+		private final MessageType type;
+		private final String message;
+		private String prefix;
+		private int count = 1;
+
+		PendingMessage(MessageType type, String message) {
+			this.type = type;
+			this.message = message;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + message.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof PendingMessage other && type == other.type && message.equals(other.message);
+		}
+	}
+}
@@ -32,8 +32,7 @@ public class CodeActionResolveHandler {
 	public static final String DATA_FIELD_PROPOSAL_ID = "pid";
 
 	public CodeAction resolve(CodeAction params, IProgressMonitor monitor) {
-		@SuppressWarnings("unchecked")
-		Map<String, String> data = JSONUtility.toModel(params.getData(), Map.class);
+		Map<String, String> data = JSONUtility.toStringMap(params.getData());
 		// clean resolve data
 		params.setData(null);
 		if (CodeActionHandler.codeActionStore.isEmpty()) {
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4j.Location;
+
+/**
+ * Caches the locations computed when resolving code lenses, so that the
+ * lenses of a document can be computed in one batch and answered one by one.
+ *
+ * A change to the Java model which may affect the references or the
+ * implementations of an element, including the reconcile of an edited working
+ * copy, invalidates the whole cache: the locations of any element may be in
+ * the changed unit. The changes of non-Java resources and the reconciles which
+ * only rebuilt the AST of an unchanged working copy don't invalidate it.
+ */
+public class CodeLensCache implements IElementChangedListener {
+
+	private static CodeLensCache instance;
+
+	private final AtomicLong stamp = new AtomicLong();
+	private final Map<String, CachedLocations> cache = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<Map<IJavaElement, List<Location>>>> batches = new ConcurrentHashMap<>();
+
+	public static synchronized CodeLensCache getInstance() {
+		if (instance == null) {
+			instance = new CodeLensCache();
+			JavaCore.addElementChangedListener(instance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return instance;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (affectsLocations(event.getDelta())) {
+			invalidate();
+		}
+	}
+
+	static boolean affectsLocations(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED) {
+			return true;
+		}
+		int flags = delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_AST_AFFECTED);
+		if (delta.getElement().getElementType() < IJavaElement.COMPILATION_UNIT && delta.getResourceDeltas() != null) {
+			// the non-Java resources of a project or a package changed
+			flags &= ~IJavaElementDelta.F_CONTENT;
+		}
+		if (flags != 0) {
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsLocations(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public void invalidate() {
+		stamp.incrementAndGet();
+		cache.clear();
+		batches.clear();
+	}
+
+	/**
+	 * @return the current modification stamp, to be passed to
+	 *         {@link #put(IJavaElement, String, List, long)} once the
+	 *         locations are computed
+	 */
+	public long getStamp() {
+		return stamp.get();
+	}
+
+	/**
+	 * @return the cached locations, or <code>null</code> if they are not known
+	 *         or stale
+	 */
+	public List<Location> get(IJavaElement element, String type) {
+		CachedLocations cached = cache.get(getKey(element, type));
+		if (cached == null || cached.stamp != stamp.get()) {
+			return null;
+		}
+		return cached.locations;
+	}
+
+	/**
+	 * Stores the locations computed for the given element. They are dropped if
+	 * the Java model changed since <code>computedAt</code>.
+	 */
+	public void put(IJavaElement element, String type, List<Location> locations, long computedAt) {
+		if (computedAt == stamp.get()) {
+			cache.put(getKey(element, type), new CachedLocations(computedAt, locations));
+		}
+	}
+
+	/**
+	 * @return the locations computed in one batch for the given document at the
+	 *         given stamp, started by <code>batch</code> unless another request
+	 *         already started it. The batch is forgotten once completed, its
+	 *         results being cached.
+	 */
+	public CompletableFuture<Map<IJavaElement, List<Location>>> getBatch(ITypeRoot typeRoot, long computedAt, Supplier<CompletableFuture<Map<IJavaElement, List<Location>>>> batch) {
+		if (computedAt != stamp.get()) {
+			return batch.get();
+		}
+		String key = computedAt + ":" + typeRoot.getHandleIdentifier();
+		CompletableFuture<Map<IJavaElement, List<Location>>> pending = batches.computeIfAbsent(key, k -> batch.get());
+		pending.whenComplete((result, e) -> batches.remove(key, pending));
+		return pending;
+	}
+
+	private static String getKey(IJavaElement element, String type) {
+		return type + ':' + element.getHandleIdentifier();
+	}
+
+	private record CachedLocations(long stamp, List<Location> locations) {
+	}
+}
@@ -16,12 +16,23 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -33,17 +44,21 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.FieldReferenceMatch;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.MethodReferenceMatch;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.core.search.TypeReferenceMatch;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JSONUtility;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
+import org.eclipse.jdt.ls.core.internal.SearchScopeCache;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences.SearchScope;
 import org.eclipse.jface.text.BadLocationException;
@@ -98,18 +113,26 @@ public class CodeLensHandler {
 				IJavaElement element = JDTUtils.findElementAtSelection(typeRoot, position.getLine(), position.getCharacter(), this.preferenceManager, monitor);
 				if (REFERENCES_TYPE.equals(type)) {
 					try {
-						locations = findReferences(element, monitor);
+						locations = findReferences(typeRoot, element, monitor);
 					} catch (CoreException e) {
 						JavaLanguageServerPlugin.logException(e.getMessage(), e);
 					}
 				} else if (IMPLEMENTATION_TYPE.equals(type)) {
 					if (element instanceof IType || element instanceof IMethod) {
-						try {
-							IDocument document = JsonRpcHelpers.toDocument(typeRoot.getBuffer());
-							int offset = document.getLineOffset(position.getLine()) + position.getCharacter();
-							locations = findImplementations(typeRoot, element, offset, monitor);
-						} catch (CoreException | BadLocationException e) {
-							JavaLanguageServerPlugin.logException(e.getMessage(), e);
+						CodeLensCache cache = CodeLensCache.getInstance();
+						locations = cache.get(element, IMPLEMENTATION_TYPE);
+						if (locations == null) {
+							try {
+								long stamp = cache.getStamp();
+								IDocument document = JsonRpcHelpers.toDocument(typeRoot.getBuffer());
+								int offset = document.getLineOffset(position.getLine()) + position.getCharacter();
+								locations = findImplementations(typeRoot, element, offset, monitor);
+								if (!monitor.isCanceled()) {
+									cache.put(element, IMPLEMENTATION_TYPE, locations, stamp);
+								}
+							} catch (CoreException | BadLocationException e) {
+								JavaLanguageServerPlugin.logException(e.getMessage(), e);
+							}
 						}
 					}
 				}
@@ -140,6 +163,194 @@ public class CodeLensHandler {
 		return searcher.findImplementations(monitor);
 	}
 
+	/**
+	 * Finds the references of the given element. The first call for a document
+	 * starts a search of the references of all the code lens targets of the
+	 * document at once, which the concurrent and subsequent resolve requests
+	 * of the document share, and caches the results.
+	 */
+	private List<Location> findReferences(ITypeRoot typeRoot, IJavaElement element, IProgressMonitor monitor) throws CoreException {
+		if (element == null) {
+			return Collections.emptyList();
+		}
+		CodeLensCache cache = CodeLensCache.getInstance();
+		List<Location> locations = cache.get(element, REFERENCES_TYPE);
+		if (locations != null) {
+			return locations;
+		}
+		long stamp = cache.getStamp();
+		Map<IJavaElement, List<Location>> batch = waitForBatch(cache.getBatch(typeRoot, stamp, () -> scheduleBatch(typeRoot, stamp)), monitor);
+		if (monitor.isCanceled()) {
+			return Collections.emptyList();
+		}
+		locations = batch.get(element);
+		if (locations == null) {
+			locations = findReferences(element, monitor);
+			if (!monitor.isCanceled()) {
+				cache.put(element, REFERENCES_TYPE, locations, stamp);
+			}
+		}
+		return locations;
+	}
+
+	/**
+	 * Searches the references of the code lens targets of the given document
+	 * in a job, so that the search isn't lost when the request which started
+	 * it is cancelled.
+	 */
+	private CompletableFuture<Map<IJavaElement, List<Location>>> scheduleBatch(ITypeRoot typeRoot, long stamp) {
+		CompletableFuture<Map<IJavaElement, List<Location>>> result = new CompletableFuture<>();
+		Job job = new Job("Searching code lens references") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				Map<IJavaElement, List<Location>> batch = Collections.emptyMap();
+				try {
+					CodeLensCache cache = CodeLensCache.getInstance();
+					List<IJavaElement> targets = new ArrayList<>();
+					collectReferenceTargets(typeRoot.getChildren(), targets, monitor);
+					targets.removeIf(target -> cache.get(target, REFERENCES_TYPE) != null);
+					if (targets.size() > 1 && !monitor.isCanceled()) {
+						batch = findReferences(targets, monitor);
+						if (!monitor.isCanceled()) {
+							batch.forEach((target, locations) -> cache.put(target, REFERENCES_TYPE, locations, stamp));
+						} else {
+							batch = Collections.emptyMap();
+						}
+					}
+				} catch (OperationCanceledException e) {
+					batch = Collections.emptyMap();
+				} catch (CoreException e) {
+					JavaLanguageServerPlugin.logException(e.getMessage(), e);
+				} finally {
+					result.complete(batch);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+		return result;
+	}
+
+	private static Map<IJavaElement, List<Location>> waitForBatch(CompletableFuture<Map<IJavaElement, List<Location>>> batch, IProgressMonitor monitor) {
+		while (!monitor.isCanceled()) {
+			try {
+				return batch.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check the cancellation of the request
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (ExecutionException e) {
+				break;
+			}
+		}
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * Searches the references of several elements with a single search. Since
+	 * the search matches do not tell which element they refer to, they are
+	 * attributed by the kind and the name of the referenced element. Elements
+	 * sharing their kind and name with another target (e.g. overloaded
+	 * methods), as well as constructors, are left out of the batch.
+	 */
+	private Map<IJavaElement, List<Location>> findReferences(List<IJavaElement> targets, IProgressMonitor monitor) throws CoreException {
+		Map<String, IJavaElement> targetsByKey = new HashMap<>();
+		Map<String, Integer> keyCount = new HashMap<>();
+		for (IJavaElement target : targets) {
+			String key = getReferenceKey(target.getElementType(), target.getElementName());
+			keyCount.merge(key, 1, Integer::sum);
+			targetsByKey.put(key, target);
+		}
+		final Map<IJavaElement, List<Location>> result = new HashMap<>();
+		SearchPattern pattern = null;
+		for (Map.Entry<String, IJavaElement> entry : targetsByKey.entrySet()) {
+			IJavaElement target = entry.getValue();
+			if (keyCount.get(entry.getKey()) > 1 || (target instanceof IMethod method && method.isConstructor())) {
+				continue;
+			}
+			SearchPattern targetPattern = SearchPattern.createPattern(target, IJavaSearchConstants.REFERENCES);
+			if (targetPattern == null) {
+				continue;
+			}
+			pattern = pattern == null ? targetPattern : SearchPattern.createOrPattern(pattern, targetPattern);
+			result.put(target, new ArrayList<>());
+		}
+		if (pattern == null || result.size() < 2) {
+			return Collections.emptyMap();
+		}
+		SearchEngine engine = new SearchEngine();
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, createSearchScope(), new SearchRequestor() {
+
+			@Override
+			public void acceptSearchMatch(SearchMatch match) throws CoreException {
+				if (match.getAccuracy() == SearchMatch.A_INACCURATE) {
+					return;
+				}
+				int elementType;
+				if (match instanceof TypeReferenceMatch) {
+					elementType = IJavaElement.TYPE;
+				} else if (match instanceof MethodReferenceMatch) {
+					elementType = IJavaElement.METHOD;
+				} else if (match instanceof FieldReferenceMatch) {
+					elementType = IJavaElement.FIELD;
+				} else {
+					return;
+				}
+				Object o = match.getElement();
+				if (o instanceof IJavaElement element) {
+					ICompilationUnit compilationUnit = (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+					if (compilationUnit == null) {
+						return;
+					}
+					String name = getReferencedName(compilationUnit.getBuffer(), match.getOffset(), match.getLength());
+					IJavaElement target = targetsByKey.get(getReferenceKey(elementType, name));
+					List<Location> locations = target == null ? null : result.get(target);
+					if (locations != null) {
+						locations.add(JDTUtils.toLocation(compilationUnit, match.getOffset(), match.getLength()));
+					}
+				}
+			}
+		}, monitor);
+		return result;
+	}
+
+	private static String getReferenceKey(int elementType, String name) {
+		return elementType + ":" + name;
+	}
+
+	/**
+	 * Extracts the simple name of the referenced element from the text of a
+	 * reference match, e.g. <code>List</code> from <code>java.util.List</code>
+	 * or <code>foo</code> from <code>foo(a, b)</code>.
+	 */
+	static String getReferencedName(IBuffer buffer, int offset, int length) {
+		if (buffer == null || offset < 0 || offset + length > buffer.getLength()) {
+			return null;
+		}
+		return getReferencedName(buffer.getText(offset, length));
+	}
+
+	static String getReferencedName(String text) {
+		int end = text.indexOf('(');
+		if (end < 0) {
+			end = text.length();
+		}
+		int typeArguments = text.lastIndexOf('<', end);
+		if (typeArguments > 0 && text.lastIndexOf('>', end) > typeArguments) {
+			end = typeArguments;
+		}
+		while (end > 0 && !Character.isJavaIdentifierPart(text.charAt(end - 1))) {
+			end--;
+		}
+		int start = end;
+		while (start > 0 && Character.isJavaIdentifierPart(text.charAt(start - 1))) {
+			start--;
+		}
+		return text.substring(start, end);
+	}
+
 	private List<Location> findReferences(IJavaElement element, IProgressMonitor monitor)
 			throws JavaModelException, CoreException {
 		if (element == null) {
@@ -201,6 +412,38 @@ public class CodeLensHandler {
 		return Collections.emptyList();
 	}
 
+	private void collectReferenceTargets(IJavaElement[] elements, List<IJavaElement> targets, IProgressMonitor monitor) throws JavaModelException {
+		for (IJavaElement element : elements) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			if (element.getElementType() == IJavaElement.TYPE) {
+				collectReferenceTargets(((IType) element).getChildren(), targets, monitor);
+			}
+			if (isCodeLensTarget(element) && !JDTUtils.isUnnamedClass(element)) {
+				targets.add(element);
+			}
+		}
+	}
+
+	private boolean isCodeLensTarget(IJavaElement element) throws JavaModelException {
+		if (element.getElementType() == IJavaElement.TYPE) {
+			return true;
+		} else if (element.getElementType() == IJavaElement.METHOD) {
+			if (JDTUtils.isHiddenGeneratedElement(element)) {
+				return false;
+			}
+			//ignore element if method range overlaps the type range, happens for generated bytcode, i.e. with lombok
+			IJavaElement parentType = element.getAncestor(IJavaElement.TYPE);
+			return parentType == null || JDTUtils.isUnnamedClass(parentType) || !overlaps(((ISourceReference) parentType).getNameRange(), ((ISourceReference) element).getNameRange());
+		} else if (element.getElementType() == IJavaElement.FIELD) {
+			// allow field reference CodeLens
+			return preferenceManager.getPreferences().isReferencesCodeLensIncludeFields();
+		}
+		//neither a type nor a method, we bail
+		return false;
+	}
+
 	private void collectCodeLenses(ITypeRoot typeRoot, IJavaElement[] elements, Collection<CodeLens> lenses,
 			IProgressMonitor monitor)
 			throws JavaModelException {
@@ -210,18 +453,8 @@ public class CodeLensHandler {
 			}
 			if (element.getElementType() == IJavaElement.TYPE) {
 				collectCodeLenses(typeRoot, ((IType) element).getChildren(), lenses, monitor);
-			} else if (element.getElementType() == IJavaElement.METHOD) {
-				if (JDTUtils.isHiddenGeneratedElement(element)) {
-					continue;
-				}
-				//ignore element if method range overlaps the type range, happens for generated bytcode, i.e. with lombok
-				IJavaElement parentType = element.getAncestor(IJavaElement.TYPE);
-				if (parentType != null && !JDTUtils.isUnnamedClass(parentType) && overlaps(((ISourceReference) parentType).getNameRange(), ((ISourceReference) element).getNameRange())) {
-					continue;
-				}
-			} else if (element.getElementType() == IJavaElement.FIELD && preferenceManager.getPreferences().isReferencesCodeLensIncludeFields()) {
-				// allow field reference CodeLens
-			} else {//neither a type nor a method, we bail
+			}
+			if (!isCodeLensTarget(element)) {
 				continue;
 			}
 
@@ -276,6 +509,6 @@ public class CodeLensHandler {
 	private IJavaSearchScope createSearchScope() throws JavaModelException {
 		IJavaProject[] projects = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
 		var excludeTestCode = preferenceManager.getPreferences().getSearchScope() == SearchScope.main;
-		return SearchEngine.createJavaSearchScope(excludeTestCode, projects, IJavaSearchScope.SOURCES);
+		return SearchScopeCache.getInstance().getSearchScope(projects, IJavaSearchScope.SOURCES, excludeTestCode);
 	}
 }
@@ -138,6 +138,7 @@ public class CompletionHandler{
 			JavaLanguageServerPlugin.logInfo("Completion request completed");
 		}
 		long executionTime = System.currentTimeMillis() - startTime;
+		boolean compactData = manager.getClientPreferences().isCompactCompletionResolveDataSupported();
 		String lastRequestId = null;
 		for (CompletionItem item : $.getItems()) {
 			String requestId = "";
@@ -151,6 +152,9 @@ public class CompletionHandler{
 			if (requestId.isEmpty() || proposalId.isEmpty()) {
 				continue;
 			}
+			if (compactData) {
+				item.setData(CompletionResolveHandler.toCompactData(requestId, proposalId));
+			}
 			item.setCommand(new Command("", "java.completion.onDidSelect", Arrays.asList(
 					requestId,
 					proposalId
@@ -201,6 +205,10 @@ public class CompletionHandler{
 			throw ExceptionFactory.newException("Cannot get the completion item.");
 		}
 
+		// the data sent in the compact format is expanded back for the providers
+		if (!(item.getData() instanceof Map)) {
+			item.setData(CompletionResolveHandler.toResolveData(item.getData()));
+		}
 		// get the cached completion execution time and set it to the selected item in case that providers need it.
 		String executionTime = completionResponse.getCommonData(CompletionRanking.COMPLETION_EXECUTION_TIME);
 		if (executionTime != null) {
@@ -16,6 +16,8 @@ import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.fix836
 import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.getLowerBound;
 import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.stripSignatureToFQN;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -65,6 +67,7 @@ import org.eclipse.osgi.util.NLS;
 
 import com.google.common.util.concurrent.SimpleTimeLimiter;
 import com.google.common.util.concurrent.UncheckedTimeoutException;
+import com.google.gson.JsonArray;
 
 /**
  * Adds the completion string and documentation.
@@ -88,10 +91,51 @@ public class CompletionResolveHandler {
 	public static final String DATA_FIELD_REQUEST_ID = "rid";
 	public static final String DATA_FIELD_PROPOSAL_ID = "pid";
 
+	/**
+	 * Creates the compact resolve data of a completion item, a
+	 * <code>[requestId, proposalId]</code> tuple, sent to the clients
+	 * supporting it instead of the map of
+	 * {@link #DATA_FIELD_REQUEST_ID} and {@link #DATA_FIELD_PROPOSAL_ID}. The
+	 * other data of the response, such as the document URI, is kept in its
+	 * {@link CompletionResponse}.
+	 */
+	public static List<Number> toCompactData(String requestId, String proposalId) {
+		return List.of(Long.parseLong(requestId), Integer.parseInt(proposalId));
+	}
+
+	/**
+	 * Decodes the resolve data of a completion item, sent either as a map or as
+	 * a compact <code>[requestId, proposalId]</code> tuple.
+	 *
+	 * @return the resolve data as a map, or <code>null</code> if it can't be
+	 *         decoded
+	 */
+	public static Map<String, String> toResolveData(Object data) {
+		Number requestId = null;
+		Number proposalId = null;
+		if (data instanceof JsonArray array && array.size() == 2 && array.get(0).isJsonPrimitive() && array.get(1).isJsonPrimitive()) {
+			try {
+				requestId = array.get(0).getAsLong();
+				proposalId = array.get(1).getAsInt();
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		} else if (data instanceof List<?> list && list.size() == 2 && list.get(0) instanceof Number rid && list.get(1) instanceof Number pid) {
+			requestId = rid;
+			proposalId = pid;
+		}
+		if (requestId != null) {
+			Map<String, String> result = new HashMap<>();
+			result.put(DATA_FIELD_REQUEST_ID, String.valueOf(requestId.longValue()));
+			result.put(DATA_FIELD_PROPOSAL_ID, String.valueOf(proposalId.intValue()));
+			return result;
+		}
+		return JSONUtility.toStringMap(data);
+	}
+
 	public CompletionItem resolve(CompletionItem param, IProgressMonitor monitor) {
 
-		@SuppressWarnings("unchecked")
-		Map<String, String> data = JSONUtility.toModel(param.getData(),Map.class);
+		Map<String, String> data = toResolveData(param.getData());
 		// clean resolve data
 		param.setData(null);
 		if (!CompletionProposalRequestor.SUPPORTED_KINDS.contains(param.getKind()) || data == null || !data.containsKey(DATA_FIELD_REQUEST_ID) || !data.containsKey(DATA_FIELD_PROPOSAL_ID)) {
@@ -12,15 +12,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
 import org.eclipse.jdt.core.dom.NodeFinder;
+import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.internal.core.manipulation.search.BreakContinueTargetFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.ExceptionOccurrencesFinder;
@@ -41,6 +46,21 @@ import org.eclipse.lsp4j.TextDocumentPositionParams;
  */
 public class DocumentHighlightHandler {
 
+	/**
+	 * The occurrences found in the most recently highlighted AST of each
+	 * document, by binding key. Moving the cursor between the occurrences of a
+	 * symbol is answered from this table until the document changes (i.e. a
+	 * new AST is created).
+	 */
+	private static final Map<String, OccurrenceTable> occurrenceTables = new ConcurrentHashMap<>();
+
+	/**
+	 * The monitors of the requests being computed, by document. Highlight
+	 * requests follow the cursor, so a new request supersedes the previous one
+	 * for the same document.
+	 */
+	private static final Map<String, IProgressMonitor> currentRequests = new ConcurrentHashMap<>();
+
 	/**
 	 * Handles a {@code textDocument/documentHighlight} request.
 	 *
@@ -49,6 +69,19 @@ public class DocumentHighlightHandler {
 	 * @return the document highlights for the given position
 	 */
 	public static List<DocumentHighlight> documentHighlight(TextDocumentPositionParams params, IProgressMonitor monitor) {
+		String uri = params.getTextDocument().getUri();
+		IProgressMonitor previous = currentRequests.put(uri, monitor);
+		if (previous != null && previous != monitor) {
+			previous.setCanceled(true);
+		}
+		try {
+			return computeHighlights(params, monitor);
+		} finally {
+			currentRequests.remove(uri, monitor);
+		}
+	}
+
+	private static List<DocumentHighlight> computeHighlights(TextDocumentPositionParams params, IProgressMonitor monitor) {
 		ITypeRoot typeRoot = JDTUtils.resolveTypeRoot(params.getTextDocument().getUri());
 		if (typeRoot == null || monitor.isCanceled()) {
 			return Collections.emptyList();
@@ -65,7 +98,7 @@ public class DocumentHighlightHandler {
 			return Collections.emptyList();
 		}
 
-		return findHighlights(ast, node, monitor);
+		return findHighlights(params.getTextDocument().getUri(), ast, node, monitor);
 	}
 
 	/**
@@ -79,12 +112,13 @@ public class DocumentHighlightHandler {
 	 *   <li>{@link OccurrencesFinder}</li>
 	 * </ol>
 	 *
+	 * @param uri the URI of the document
 	 * @param ast the {@link CompilationUnit}
 	 * @param node the selected {@link ASTNode} to find highlights for
 	 * @param monitor the progress monitor
 	 * @return the highlights, or an empty list if none were found
 	 */
-	private static List<DocumentHighlight> findHighlights(CompilationUnit ast, ASTNode node, IProgressMonitor monitor) {
+	private static List<DocumentHighlight> findHighlights(String uri, CompilationUnit ast, ASTNode node, IProgressMonitor monitor) {
 		IOccurrencesFinder finder;
 
 		finder = new ExceptionOccurrencesFinder();
@@ -119,14 +153,41 @@ public class DocumentHighlightHandler {
 			return Collections.emptyList();
 		}
 
+		String bindingKey = getBindingKey(node);
+		OccurrenceTable table = bindingKey == null ? null : getOccurrenceTable(uri, ast);
+		if (table != null) {
+			List<DocumentHighlight> highlights = table.highlights.get(bindingKey);
+			if (highlights != null) {
+				return new ArrayList<>(highlights);
+			}
+		}
+
 		finder = new OccurrencesFinder();
 		if (finder.initialize(ast, node) == null) {
-			return convertToHighlights(ast, finder.getOccurrences());
+			List<DocumentHighlight> highlights = convertToHighlights(ast, finder.getOccurrences());
+			if (table != null && !monitor.isCanceled()) {
+				table.highlights.put(bindingKey, List.copyOf(highlights));
+			}
+			return highlights;
 		}
 
 		return Collections.emptyList();
 	}
 
+	private static String getBindingKey(ASTNode node) {
+		if (node instanceof SimpleName name) {
+			IBinding binding = name.resolveBinding();
+			return binding == null ? null : binding.getKey();
+		}
+		return null;
+	}
+
+	private static OccurrenceTable getOccurrenceTable(String uri, CompilationUnit ast) {
+		// the tables of the ASTs which aren't used anymore
+		occurrenceTables.values().removeIf(table -> table.ast.get() == null);
+		return occurrenceTables.compute(uri, (key, table) -> table == null || table.ast.get() != ast ? new OccurrenceTable(ast) : table);
+	}
+
 	private static List<DocumentHighlight> convertToHighlights(CompilationUnit ast, OccurrenceLocation[] locations) {
 		if (locations == null || locations.length == 0) {
 			return Collections.emptyList();
@@ -157,4 +218,14 @@ public class DocumentHighlightHandler {
 		return highlight;
 	}
 
+	private static final class OccurrenceTable {
+
+		private final WeakReference<CompilationUnit> ast;
+		private final Map<String, List<DocumentHighlight>> highlights = new ConcurrentHashMap<>();
+
+		private OccurrenceTable(CompilationUnit ast) {
+			this.ast = new WeakReference<>(ast);
+		}
+	}
+
 }
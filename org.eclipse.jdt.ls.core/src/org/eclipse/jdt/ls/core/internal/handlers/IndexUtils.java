@@ -17,7 +17,10 @@ import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
@@ -26,6 +29,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
 import java.util.Set;
 import java.util.zip.CRC32;
 
@@ -36,6 +40,7 @@ import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
@@ -45,22 +50,31 @@ import org.eclipse.jdt.internal.core.ClasspathEntry;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.JavaProject;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
 import org.eclipse.jdt.internal.core.index.FileIndexLocation;
 import org.eclipse.jdt.internal.core.index.Index;
 import org.eclipse.jdt.internal.core.index.IndexLocation;
 import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
 import org.eclipse.jdt.internal.core.search.indexing.ReadWriteMonitor;
+import org.eclipse.jdt.ls.core.internal.InteractiveRequests;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
 
 public class IndexUtils {
+	public static final String SHARED_INDEX_LOCATION_PROPERTY = "jdt.core.sharedIndexLocation";
+	/**
+	 * Describes the pre-built indexes of a shared index location: each entry maps
+	 * an index file name to the timestamp and the path of the indexed library.
+	 */
+	public static final String SHARED_INDEX_MANIFEST = "jdtls-indexes.properties";
+
 	private static boolean resourceChangeRegistered = false;
 	private static Map<IPath, Long> externalTimeStamps = null;
 
-	public static void copyIndexesToSharedLocation() {
+	public static void copyIndexesToSharedLocation(IProgressMonitor monitor) {
 		// common index location for all workspaces
-		final String SHARED_INDEX_LOCATION = System.getProperty("jdt.core.sharedIndexLocation");
+		final String SHARED_INDEX_LOCATION = System.getProperty(SHARED_INDEX_LOCATION_PROPERTY);
 		if (JavaModelManager.getIndexManager() == null || StringUtils.isBlank(SHARED_INDEX_LOCATION)) {
 			return;
 		}
@@ -68,7 +82,7 @@ public class IndexUtils {
 		JobHelpers.waitUntilIndexesReady();
 		getExternalLibTimeStamps(); // init load of externalLibTimeStamps
 		registerResourceChangeListener();
-		copyIndexesToSharedLocation(ProjectUtils.getJavaProjects());
+		copyIndexesToSharedLocation(ProjectUtils.getJavaProjects(), monitor);
 	}
 
 	private static synchronized void registerResourceChangeListener() {
@@ -91,20 +105,146 @@ public class IndexUtils {
 
 				if (projects != null && projects.length > 0) {
 					JavaModelManager.getIndexManager().waitForIndex(true, null);
-					copyIndexesToSharedLocation(projects);
+					copyIndexesToSharedLocation(projects, null);
 				}
 			}
 		}, IResourceChangeEvent.PRE_REFRESH);
 	}
 
-	private static void copyIndexesToSharedLocation(IJavaProject[] javaProjects) {
+	/**
+	 * Copies the indexes of the libraries of the given projects to the shared
+	 * index location, and records them in the shared index manifest so that
+	 * they can be validated by {@link #importSharedIndexes()} when a server
+	 * starts.
+	 *
+	 * @return the number of indexes recorded in the manifest
+	 */
+	public static int exportIndexesToSharedLocation(IJavaProject[] javaProjects) {
+		final String SHARED_INDEX_LOCATION = System.getProperty(SHARED_INDEX_LOCATION_PROPERTY);
+		if (JavaModelManager.getIndexManager() == null || StringUtils.isBlank(SHARED_INDEX_LOCATION)) {
+			return 0;
+		}
+
+		JobHelpers.waitUntilIndexesReady();
+		copyIndexesToSharedLocation(javaProjects, null);
+		File manifestFile = getSharedIndexManifestFile(SHARED_INDEX_LOCATION);
+		Properties manifest = loadSharedIndexManifest(manifestFile);
+		int count = 0;
+		for (IJavaProject javaProject : javaProjects) {
+			try {
+				for (IClasspathEntry entry : ((JavaProject) javaProject).getResolvedClasspath()) {
+					if (entry.getEntryKind() != IClasspathEntry.CPE_LIBRARY || !(JavaModel.getTarget(entry.getPath(), true) instanceof File libraryFile)) {
+						continue;
+					}
+					IndexLocation sharedIndexLocation = getSharedIndexLocation((ClasspathEntry) entry);
+					File sharedIndexFile = sharedIndexLocation == null ? null : sharedIndexLocation.getIndexFile();
+					if (sharedIndexFile != null && sharedIndexFile.isFile()) {
+						manifest.setProperty(sharedIndexFile.getName(), getLibTimeStamp(libraryFile) + "|" + entry.getPath().toPortableString());
+						count++;
+					}
+				}
+			} catch (JavaModelException e) {
+				JavaLanguageServerPlugin.logException(e);
+			}
+		}
+
+		mkdirsFor(manifestFile);
+		try (OutputStream out = new FileOutputStream(manifestFile)) {
+			manifest.store(out, "Pre-built JDT indexes");
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Failed to write the shared index manifest", e);
+		}
+		return count;
+	}
+
+	/**
+	 * Validates the pre-built indexes listed in the manifest of the shared
+	 * index location. The indexes of libraries that changed since the indexes
+	 * were built are deleted, so that the libraries get re-indexed. The indexes
+	 * that are still valid are registered as up to date, so that they are used
+	 * as is.
+	 *
+	 * @return the number of imported indexes
+	 */
+	public static int importSharedIndexes() {
+		final String SHARED_INDEX_LOCATION = System.getProperty(SHARED_INDEX_LOCATION_PROPERTY);
+		if (StringUtils.isBlank(SHARED_INDEX_LOCATION)) {
+			return 0;
+		}
+
+		File manifestFile = getSharedIndexManifestFile(SHARED_INDEX_LOCATION);
+		if (!manifestFile.isFile()) {
+			return 0;
+		}
+
+		Properties manifest = loadSharedIndexManifest(manifestFile);
+		Map<IPath, Long> timeStamps = getExternalLibTimeStamps();
+		int imported = 0;
+		int stale = 0;
+		for (String indexName : manifest.stringPropertyNames()) {
+			String value = manifest.getProperty(indexName);
+			int separator = value.indexOf('|');
+			if (separator < 0) {
+				continue;
+			}
+			File indexFile = new File(manifestFile.getParentFile(), indexName);
+			IPath libraryPath = Path.fromPortableString(value.substring(separator + 1));
+			File libraryFile = libraryPath.toFile();
+			if (!indexFile.isFile() || !libraryFile.isFile()) {
+				continue;
+			}
+			long timeStamp;
+			try {
+				timeStamp = Long.parseLong(value.substring(0, separator));
+			} catch (NumberFormatException e) {
+				continue;
+			}
+			if (timeStamp == getLibTimeStamp(libraryFile) && indexFile.length() > 0) {
+				synchronized (IndexUtils.class) {
+					timeStamps.putIfAbsent(libraryPath, timeStamp);
+				}
+				imported++;
+			} else {
+				try {
+					Files.deleteIfExists(indexFile.toPath());
+					stale++;
+				} catch (IOException e) {
+					JavaLanguageServerPlugin.logError(String.format("Failed to delete the outdated shared index %s: %s", indexName, e.getMessage()));
+				}
+			}
+		}
+		JavaLanguageServerPlugin.logInfo(String.format("Imported %d pre-built indexes from %s, %d outdated indexes removed", imported, SHARED_INDEX_LOCATION, stale));
+		return imported;
+	}
+
+	private static File getSharedIndexManifestFile(String sharedIndexLocation) {
+		return new File(new File(sharedIndexLocation, DiskIndex.INDEX_VERSION), SHARED_INDEX_MANIFEST);
+	}
+
+	private static Properties loadSharedIndexManifest(File manifestFile) {
+		Properties manifest = new Properties();
+		if (manifestFile.isFile()) {
+			try (InputStream in = new FileInputStream(manifestFile)) {
+				manifest.load(in);
+			} catch (IOException e) {
+				JavaLanguageServerPlugin.logException("Failed to read the shared index manifest", e);
+			}
+		}
+		return manifest;
+	}
+
+	private static void copyIndexesToSharedLocation(IJavaProject[] javaProjects, IProgressMonitor monitor) {
 		Set<ClasspathEntry> processedEntries = new HashSet<>();
 		Set<ClasspathEntry> deferredEntries = new HashSet<>();
 		for (IJavaProject javaProject : javaProjects) {
+			if (monitor != null && monitor.isCanceled()) {
+				return;
+			}
 			try {
 				if (javaProject == null || !javaProject.exists()) {
 					continue;
 				}
+				InteractiveRequests.yieldToInteractive(monitor);
 
 				IClasspathEntry[] entries = ((JavaProject) javaProject).getResolvedClasspath();
 				for (IClasspathEntry entry : entries) {
@@ -36,10 +36,12 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.ls.core.internal.IConstants;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.ServiceStatus;
+import org.eclipse.jdt.ls.core.internal.StartupTimeline;
 import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager;
 import org.eclipse.jdt.ls.core.internal.managers.TelemetryManager;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
@@ -265,10 +267,26 @@ final public class InitHandler extends BaseInitHandler {
 				};
 				try {
 					start = System.currentTimeMillis();
-					JobHelpers.waitForRepositoryRegistryUpdateJob();
+					try (StartupTimeline.Span span = StartupTimeline.begin("Wait for RepositoryRegistryUpdateJob", "wait")) {
+						JobHelpers.waitForRepositoryRegistryUpdateJob();
+					}
 					JavaLanguageServerPlugin.logInfo("RepositoryRegistryUpdateJob finished " + (System.currentTimeMillis() - start) + "ms");
 					resetBuildState = ProjectsManager.interruptAutoBuild();
-					projectsManager.initializeProjects(roots, subMonitor);
+					try (StartupTimeline.Span span = StartupTimeline.begin("Import shared indexes", "index")) {
+						IndexUtils.importSharedIndexes();
+					}
+					if (projectsManager.canFastStart(roots)) {
+						projectsManager.configureFilters(monitor);
+						JavaLanguageServerPlugin.logInfo("Workspace restored from the previous session in " + (System.currentTimeMillis() - start) + "ms");
+						connection.sendStatus(ServiceStatus.Started, "Ready");
+						telemetryManager.onProjectsInitialized(System.currentTimeMillis());
+						projectsManager.setVerifyingProjects(true);
+						scheduleProjectsVerification(roots);
+						return Status.OK_STATUS;
+					}
+					try (StartupTimeline.Span span = StartupTimeline.begin("Initialize projects", "import")) {
+						projectsManager.initializeProjects(roots, subMonitor);
+					}
 					projectsManager.configureFilters(monitor);
 					JavaLanguageServerPlugin.logInfo("Workspace initialized in " + (System.currentTimeMillis() - start) + "ms");
 					connection.sendStatus(ServiceStatus.Started, "Ready");
@@ -307,4 +325,34 @@ final public class InitHandler extends BaseInitHandler {
 		job.schedule();
 	}
 
+	/**
+	 * Verifies in the background the projects restored from the previous
+	 * session, see {@link Preferences#IMPORT_FAST_START_ENABLED}.
+	 */
+	private void scheduleProjectsVerification(Collection<IPath> roots) {
+		// each project is verified in its own workspace operation
+		Job job = new Job("Verify Workspace") {
+			@Override
+			public IStatus run(IProgressMonitor monitor) {
+				long start = System.currentTimeMillis();
+				try {
+					projectsManager.verifyProjects(roots, monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (Exception e) {
+					JavaLanguageServerPlugin.logException("Workspace verification failed ", e);
+				}
+				JavaLanguageServerPlugin.logInfo("Workspace verified in " + (System.currentTimeMillis() - start) + "ms");
+				return Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return IConstants.JOBS_FAMILY.equals(family);
+			}
+		};
+		job.setPriority(Job.LONG);
+		job.schedule();
+	}
+
 }
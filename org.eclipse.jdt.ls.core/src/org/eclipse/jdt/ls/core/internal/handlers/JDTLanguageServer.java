@@ -49,6 +49,7 @@ import org.eclipse.jdt.ls.core.internal.BaseJDTLanguageServer;
 import org.eclipse.jdt.ls.core.internal.BuildWorkspaceStatus;
 import org.eclipse.jdt.ls.core.internal.IConstants;
 import org.eclipse.jdt.ls.core.internal.IDelegateCommandHandler;
+import org.eclipse.jdt.ls.core.internal.InteractiveRequests;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JSONUtility;
 import org.eclipse.jdt.ls.core.internal.JVMConfigurator;
@@ -58,7 +59,10 @@ import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.LanguageServerApplication;
 import org.eclipse.jdt.ls.core.internal.LanguageServerWorkingCopyOwner;
+import org.eclipse.jdt.ls.core.internal.RequestExecutor;
+import org.eclipse.jdt.ls.core.internal.RequestExecutor.Lane;
 import org.eclipse.jdt.ls.core.internal.ServiceStatus;
+import org.eclipse.jdt.ls.core.internal.StartupTimeline;
 import org.eclipse.jdt.ls.core.internal.codemanipulation.GenerateGetterSetterOperation.AccessorField;
 import org.eclipse.jdt.ls.core.internal.handlers.CodeActionHandler.CodeActionData;
 import org.eclipse.jdt.ls.core.internal.handlers.DocumentSymbolHandler.ExtendedDocumentSymbol;
@@ -169,7 +173,6 @@ import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.lsp4j.WorkspaceSymbolParams;
 import org.eclipse.lsp4j.extended.ProjectBuildParams;
 import org.eclipse.lsp4j.extended.ProjectConfigurationsUpdateParam;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.messages.Either3;
 import org.eclipse.lsp4j.jsonrpc.services.JsonDelegate;
@@ -220,6 +223,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 					classpathUpdateHandler.removeElementChangeListener();
 					classpathUpdateHandler = null;
 				}
+				WorkspaceSymbolIndex.getInstance().uninstall();
 				ResourcesPlugin.getWorkspace().save(true, monitor);
 			} catch (CoreException e) {
 				logException(e.getMessage(), e);
@@ -301,7 +305,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public void initialized(InitializedParams params) {
 		logInfo(">> initialized");
-		try {
+		try (StartupTimeline.Span span = StartupTimeline.begin("Wait for initialize jobs", "wait")) {
 			JobHelpers.waitForInitializeJobs(60 * 60 * 1000); // 1 hour
 		} catch (OperationCanceledException e) {
 			logException(e.getMessage(), e);
@@ -321,28 +325,40 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 					syncCapabilitiesToSettings();
 
 					// before send the service ready notification, make sure all bundles are synchronized
-					synchronizeBundles();
+					try (StartupTimeline.Span span = StartupTimeline.begin("Synchronize bundles", "activation")) {
+						synchronizeBundles();
+					}
 
 					client.sendStatus(ServiceStatus.ServiceReady, "ServiceReady");
 					status = ServiceStatus.ServiceReady;
 					telemetryManager.onServiceReady(System.currentTimeMillis());
-					pm.projectsImported(monitor);
+					// the projects restored by a fast start are reported once verified
+					if (!pm.isVerifyingProjects()) {
+						pm.projectsImported(monitor);
+					}
 
-					IndexUtils.copyIndexesToSharedLocation();
-					JobHelpers.waitForBuildJobs(60 * 60 * 1000); // 1 hour
+					IndexUtils.copyIndexesToSharedLocation(monitor);
+					try (StartupTimeline.Span span = StartupTimeline.begin("Wait for build jobs", "build")) {
+						JobHelpers.waitForBuildJobs(60 * 60 * 1000); // 1 hour
+					}
 					logInfo(">> build jobs finished");
 					// https://github.com/redhat-developer/vscode-java/issues/3637 - delay registerWatchers
 					pm.registerWatchers();
 					debugTrace(">> watchers registered");
 					// https://github.com/redhat-developer/vscode-java/issues/3797
-					pm.checkIndexes();
+					try (StartupTimeline.Span span = StartupTimeline.begin("Check indexes", "index")) {
+						pm.checkIndexes();
+					}
 					debugTrace(">> indexes checked");
 					pm.projectsBuildFinished(monitor);
 
-					JobHelpers.waitForUpdateJobs(60 * 60 * 1000);
-					JobHelpers.waitForBuildJobs(60 * 60 * 1000); // 1 hour
+					try (StartupTimeline.Span span = StartupTimeline.begin("Wait for update and build jobs", "build")) {
+						JobHelpers.waitForUpdateJobs(60 * 60 * 1000);
+						JobHelpers.waitForBuildJobs(60 * 60 * 1000); // 1 hour
+					}
 
 					telemetryManager.onBuildFinished(System.currentTimeMillis());
+					StartupTimeline.export();
 					workspaceDiagnosticsHandler = new WorkspaceDiagnosticsHandler(JDTLanguageServer.this.client, pm, preferenceManager.getClientPreferences(), documentLifeCycleHandler);
 					workspaceDiagnosticsHandler.addResourceChangeListener();
 					workspaceDiagnosticsHandler.publishDiagnostics(monitor);
@@ -488,6 +504,12 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<Object> shutdown() {
 		logInfo(">> shutdown");
 		return computeAsync((monitor) -> {
+			telemetryManager.onShutdown();
+			// send the shutdown statistics before the client stops listening
+			ClientLogDispatcher logDispatcher = getClientLogDispatcher();
+			if (logDispatcher != null) {
+				logDispatcher.flush();
+			}
 			shutdownJob.setSystem(true);
 			shutdownJob.schedule();
 			shutdownReceived = true;
@@ -520,9 +542,19 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 		} catch (InterruptedException e) {
 			JavaLanguageServerPlugin.logException(e.getMessage(), e);
 		}
+		ClientLogDispatcher logDispatcher = getClientLogDispatcher();
+		if (logDispatcher != null) {
+			logDispatcher.dispose();
+		}
 		JavaLanguageServerPlugin.getLanguageServer().exit();
 	}
 
+	private static ClientLogDispatcher getClientLogDispatcher() {
+		JavaLanguageServerPlugin plugin = JavaLanguageServerPlugin.getInstance();
+		LogHandler logHandler = plugin == null ? null : plugin.getLogHandler();
+		return logHandler == null ? null : logHandler.getClientLogDispatcher();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.lsp4j.services.LanguageServer#getTextDocumentService()
 	 */
@@ -550,7 +582,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> symbol(WorkspaceSymbolParams params) {
 		debugTrace(">> workspace/symbol");
-		return computeAsync((monitor) -> {
+		return computeAsync(Lane.SEARCH, (monitor) -> {
 			return Either.forLeft(WorkspaceSymbolHandler.search(params.getQuery(), monitor));
 		});
 	}
@@ -668,6 +700,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams position) {
 		debugTrace(">> document/completion");
+		InteractiveRequests.begin();
 		try {
 			CompletionHandler handler = new CompletionHandler(preferenceManager);
 			IProgressMonitor monitor = new NullProgressMonitor();
@@ -678,6 +711,8 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 			return CompletableFuture.completedFuture(result);
 		} catch (Exception ex) {
 			return CompletableFuture.failedFuture(ex);
+		} finally {
+			InteractiveRequests.end();
 		}
 	}
 
@@ -687,6 +722,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved) {
 		debugTrace(">> document/resolveCompletionItem");
+		InteractiveRequests.begin();
 		try {
 			CompletionResolveHandler handler = new CompletionResolveHandler(preferenceManager);
 			IProgressMonitor monitor = new NullProgressMonitor();
@@ -697,6 +733,8 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 			return CompletableFuture.completedFuture(result);
 		} catch (Exception ex) {
 			return CompletableFuture.failedFuture(ex);
+		} finally {
+			InteractiveRequests.end();
 		}
 	}
 
@@ -707,7 +745,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<Hover> hover(HoverParams position) {
 		debugTrace(">> document/hover");
 		HoverHandler handler = new HoverHandler(this.preferenceManager);
-		return computeAsync((monitor) -> handler.hover(position, monitor));
+		return computeInteractiveAsync((monitor) -> handler.hover(position, monitor));
 	}
 
 	/* (non-Javadoc)
@@ -717,7 +755,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<SignatureHelp> signatureHelp(SignatureHelpParams position) {
 		debugTrace(">> document/signatureHelp");
 		SignatureHelpHandler handler = new SignatureHelpHandler(preferenceManager);
-		return computeAsync((monitor) -> handler.signatureHelp(position, monitor));
+		return computeInteractiveAsync((monitor) -> handler.signatureHelp(position, monitor));
 	}
 
 	/* (non-Javadoc)
@@ -763,7 +801,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<List<? extends Location>> references(ReferenceParams params) {
 		debugTrace(">> document/references");
 		ReferencesHandler handler = new ReferencesHandler(this.preferenceManager);
-		return computeAsync((monitor) -> handler.findReferences(params, monitor));
+		return computeAsync(Lane.SEARCH, (monitor) -> handler.findReferences(params, monitor));
 	}
 
 	@Override
@@ -778,7 +816,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<List<? extends DocumentHighlight>> documentHighlight(DocumentHighlightParams position) {
 		debugTrace(">> document/documentHighlight");
-		return computeAsync((monitor) -> DocumentHighlightHandler.documentHighlight(position, monitor));
+		return computeAsync(Lane.INTERACTIVE, (monitor) -> DocumentHighlightHandler.documentHighlight(position, monitor));
 	}
 
 	/* (non-Javadoc)
@@ -1060,14 +1098,14 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 		boolean rebuild = forceRebuild.isLeft() ? forceRebuild.getLeft() : forceRebuild.getRight()[0];
 		debugTrace(">> java/buildWorkspace (" + (rebuild ? "full)" : "incremental)"));
 		BuildWorkspaceHandler handler = new BuildWorkspaceHandler(pm);
-		return computeAsyncWithClientProgress((monitor) -> handler.buildWorkspace(rebuild, monitor));
+		return computeAsyncWithClientProgress(Lane.BUILD, (monitor) -> handler.buildWorkspace(rebuild, monitor));
 	}
 
 	@Override
 	public CompletableFuture<BuildWorkspaceStatus> buildProjects(ProjectBuildParams params) {
 		debugTrace(">> java/buildProjects");
 		BuildWorkspaceHandler handler = new BuildWorkspaceHandler(pm);
-		return computeAsyncWithClientProgress((monitor) -> handler.buildProjects(params, monitor));
+		return computeAsyncWithClientProgress(Lane.BUILD, (monitor) -> handler.buildProjects(params, monitor));
 	}
 
 	/* (non-Javadoc)
@@ -1085,7 +1123,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> implementation(ImplementationParams position) {
 		debugTrace(">> document/implementation");
-		return computeAsyncWithClientProgress((monitor) -> {
+		return computeAsyncWithClientProgress(Lane.SEARCH, (monitor) -> {
 			ImplementationsHandler handler = new ImplementationsHandler(preferenceManager);
 			return Either.forLeft(handler.findImplementations(position, monitor));
 		});
@@ -1230,7 +1268,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<List<SymbolInformation>> searchSymbols(SearchSymbolParams params) {
 		debugTrace(">> java/searchSymbols");
-		return computeAsyncWithClientProgress((monitor) -> WorkspaceSymbolHandler.search(params.getQuery(), params.maxResults, params.projectName, params.sourceOnly, monitor));
+		return computeAsyncWithClientProgress(Lane.SEARCH, (monitor) -> WorkspaceSymbolHandler.search(params.getQuery(), params.maxResults, params.projectName, params.sourceOnly, monitor));
 	}
 
 	@Override
@@ -1242,19 +1280,19 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<List<CallHierarchyIncomingCall>> callHierarchyIncomingCalls(CallHierarchyIncomingCallsParams params) {
 		debugTrace(">> callHierarchy/incomingCalls");
-		return computeAsyncWithClientProgress((monitor) -> new CallHierarchyHandler().callHierarchyIncomingCalls(params, monitor));
+		return computeAsyncWithClientProgress(Lane.SEARCH, (monitor) -> new CallHierarchyHandler().callHierarchyIncomingCalls(params, monitor));
 	}
 
 	@Override
 	public CompletableFuture<List<CallHierarchyOutgoingCall>> callHierarchyOutgoingCalls(CallHierarchyOutgoingCallsParams params) {
 		debugTrace(">> callHierarchy/outgoingCalls");
-		return computeAsyncWithClientProgress((monitor) -> new CallHierarchyHandler().callHierarchyOutgoingCalls(params, monitor));
+		return computeAsyncWithClientProgress(Lane.SEARCH, (monitor) -> new CallHierarchyHandler().callHierarchyOutgoingCalls(params, monitor));
 	}
 
 	@Override
 	public CompletableFuture<SemanticTokens> semanticTokensFull(SemanticTokensParams params) {
 		debugTrace(">> textDocument/semanticTokens/full");
-		return computeAsync(monitor -> SemanticTokensHandler.full(monitor, params,
+		return computeInteractiveAsync(monitor -> SemanticTokensHandler.full(monitor, params,
 			documentLifeCycleHandler.new DocumentMonitor(params.getTextDocument().getUri())));
 	}
 
@@ -1285,7 +1323,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<List<TypeHierarchyItem>> typeHierarchySubtypes(TypeHierarchySubtypesParams params) {
 		logInfo(">> typeHierarchy/subtypes");
-		return computeAsync(monitor -> typeHierarchyHandler.getSubtypeItems(params, monitor));
+		return computeAsync(Lane.SEARCH, monitor -> typeHierarchyHandler.getSubtypeItems(params, monitor));
 	}
 
 	@Override
@@ -1299,14 +1337,22 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 		// FIXME: implement the behavior of this method.
 	}
 	private <R> CompletableFuture<R> computeAsyncWithClientProgress(Function<IProgressMonitor, R> code) {
-		return CompletableFutures.computeAsync((cc) -> {
+		return computeAsyncWithClientProgress(Lane.DEFAULT, code);
+	}
+
+	private <R> CompletableFuture<R> computeAsyncWithClientProgress(Lane lane, Function<IProgressMonitor, R> code) {
+		return RequestExecutor.getInstance().computeAsync(lane, (cc) -> {
 			IProgressMonitor monitor = progressReporterManager.getProgressReporter(cc);
 			return code.apply(monitor);
 		});
 	}
 
 	private void waitForLifecycleJobs(IProgressMonitor monitor) {
-		JobHelpers.waitForJobs(DocumentLifeCycleHandler.DOCUMENT_LIFE_CYCLE_JOBS, monitor);
+		InteractiveRequests.waitForJobs(DocumentLifeCycleHandler.DOCUMENT_LIFE_CYCLE_JOBS, monitor);
+	}
+
+	private <R> CompletableFuture<R> computeInteractiveAsync(Function<IProgressMonitor, R> code) {
+		return computeAsync(Lane.INTERACTIVE, (monitor) -> InteractiveRequests.run(() -> code.apply(monitor)));
 	}
 
 	// for test only
@@ -57,7 +57,7 @@ public class LogHandler {
 	private ILogListener logListener;
 	private DateFormat dateFormat;
 	private int logLevelMask;
-	private JavaClientConnection connection;
+	private ClientLogDispatcher dispatcher;
 	private Predicate<IStatus> filter;
 
 	private String firstRecordedEntryDateString;
@@ -90,7 +90,7 @@ public class LogHandler {
 				if (firstRecordedEntryDateString == null) {
 					firstRecordedEntryDateString = dateString;
 				}
-				if (connection == null) {
+				if (dispatcher == null) {
 					statusCache.add(status);
 				} else {
 					processLogMessage(status);
@@ -101,7 +101,10 @@ public class LogHandler {
 	}
 
 	public void setClientConnection(JavaClientConnection clientConnection) {
-		this.connection = clientConnection;
+		if (this.dispatcher != null) {
+			this.dispatcher.dispose();
+		}
+		this.dispatcher = new ClientLogDispatcher(clientConnection);
 
 		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
 		File workspaceFile = root.getRawLocation().makeAbsolute().toFile();
@@ -135,14 +138,13 @@ public class LogHandler {
 	}
 
 	private void processLogMessage(LogEntry entry) {
-		// Skip sending to client if current thread is interrupted as that would close the LSP connection to the client !!!
-		if (Thread.currentThread().isInterrupted() || connection == null) {
+		if (dispatcher == null) {
 			return;
 		}
 		String dateString = this.dateFormat.format(entry.getDate());
 		String message = entry.getMessage() + '\n' + entry.getStack();
 
-		connection.logMessage(getMessageTypeFromSeverity(entry.getSeverity()), dateString + ' ' + message);
+		dispatcher.logMessage(getMessageTypeFromSeverity(entry.getSeverity()), dateString + ' ', message);
 		final boolean hasWorkspaceExitedUnsaved = entry.getSeverity() == IStatus.WARNING
 				&& entry.getMessage().contains("workspace exited with unsaved changes in the previous session");
 		// Send a trace event to client
@@ -155,7 +157,7 @@ public class LogHandler {
 			int hashCode = properties.hashCode();
 			if (!knownErrors.contains(hashCode)) {
 				knownErrors.add(hashCode);
-				connection.telemetryEvent(new TelemetryEvent(JAVA_ERROR_LOG, properties));
+				dispatcher.telemetryEvent(new TelemetryEvent(JAVA_ERROR_LOG, properties));
 			}
 		}
 	}
@@ -164,8 +166,9 @@ public class LogHandler {
 			//no op;
 			return;
 		}
-		// Skip sending to client if current thread is interrupted as that would close the LSP connection to the client !!!
-		if (Thread.currentThread().isInterrupted() || connection == null) {
+		// The messages are sent to the client from the dispatcher's thread, so an
+		// interrupted caller can't close the LSP connection to the client
+		if (dispatcher == null) {
 			return;
 		}
 		String dateString = this.dateFormat.format(new Date());
@@ -180,7 +183,7 @@ public class LogHandler {
 			exceptionAsString = message.substring(BUILD_ERROR_MSG_DETAILS_LENGTH).trim();
 		}
 
-		connection.logMessage(getMessageTypeFromSeverity(status.getSeverity()), dateString + ' ' + message);
+		dispatcher.logMessage(getMessageTypeFromSeverity(status.getSeverity()), dateString + ' ', String.valueOf(message));
 
 		final boolean hasWorkspaceExitedUnsaved = status.getSeverity() == IStatus.WARNING
 				&& status.getMessage().contains("workspace exited with unsaved changes in the previous session");
@@ -194,11 +197,19 @@ public class LogHandler {
 			int hashCode = properties.hashCode();
 			if (!knownErrors.contains(hashCode)) {
 				knownErrors.add(hashCode);
-				connection.telemetryEvent(new TelemetryEvent(JAVA_ERROR_LOG, properties));
+				dispatcher.telemetryEvent(new TelemetryEvent(JAVA_ERROR_LOG, properties));
 			}
 		}
 	}
 
+	/**
+	 * @return the dispatcher sending the log messages to the client, or
+	 *         <code>null</code> if the client isn't connected yet
+	 */
+	public ClientLogDispatcher getClientLogDispatcher() {
+		return dispatcher;
+	}
+
 	private String redact(String message) {
 		if (message == null) {
 			return null;
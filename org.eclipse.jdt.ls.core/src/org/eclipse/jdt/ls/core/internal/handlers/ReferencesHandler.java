@@ -45,6 +45,7 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.corext.codemanipulation.GetterSetterUtil;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.SearchScopeCache;
 import org.eclipse.jdt.ls.core.internal.SearchUtils;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences.SearchScope;
@@ -70,7 +71,7 @@ public final class ReferencesHandler {
 			}
 		}
 		var excludeTestCode = searchScope == SearchScope.main;
-		return SearchEngine.createJavaSearchScope(excludeTestCode, projects, includeMask);
+		return SearchScopeCache.getInstance().getSearchScope(projects, includeMask, excludeTestCode);
 	}
 
 	public List<Location> findReferences(ReferenceParams param, IProgressMonitor monitor) {
@@ -69,8 +69,7 @@ public class TypeHierarchyHandler {
 			if (data == null) {
 				return null;
 			}
-			@SuppressWarnings("unchecked")
-			Map<String, String> map = JSONUtility.toModel(data, Map.class);
+			Map<String, String> map = JSONUtility.toStringMap(data);
 			String handleIdentifier = map.get("element");
 			String methodIdentifier = map.get("method");
 			String methodName = map.get("method_name");
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IBuildConfiguration;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspace.ProjectOrder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+/**
+ * Schedules the build of the workspace projects.
+ *
+ * The projects containing open documents, and the projects they depend on,
+ * are built first so that the diagnostics of the open documents are
+ * available as soon as possible; the remaining projects are built next.
+ *
+ * When the workspace allows concurrent builds, each of these two batches is
+ * handed over to the workspace in one call, which builds its independent
+ * projects concurrently, up to the configured maximum number of concurrent
+ * builds. Otherwise the projects are built one at a time, in dependency
+ * order. The build time of each batch (or project) is reported to the
+ * progress monitor.
+ */
+public class WorkspaceBuildScheduler {
+
+	private final IWorkspace workspace;
+
+	public WorkspaceBuildScheduler(IWorkspace workspace) {
+		this.workspace = workspace;
+	}
+
+	/**
+	 * Builds the given projects.
+	 *
+	 * @param projects
+	 *            the projects to build
+	 * @param kind
+	 *            the kind of build, see
+	 *            {@link org.eclipse.core.resources.IncrementalProjectBuilder}
+	 * @param monitor
+	 *            the progress monitor
+	 */
+	public void build(Collection<IProject> projects, int kind, IProgressMonitor monitor) throws CoreException {
+		boolean concurrent = workspace.getDescription().getMaxConcurrentBuilds() > 1;
+		List<List<IProject>> batches = schedule(projects, getOpenProjects(), concurrent);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, projects.size());
+		for (List<IProject> batch : batches) {
+			subMonitor.checkCanceled();
+			IBuildConfiguration[] configs = new IBuildConfiguration[batch.size()];
+			for (int i = 0; i < configs.length; i++) {
+				configs[i] = batch.get(i).getActiveBuildConfig();
+			}
+			long start = System.currentTimeMillis();
+			workspace.build(configs, kind, false, subMonitor.split(batch.size()));
+			String message = String.format("Built %s in %dms", batch.stream().map(IProject::getName).collect(Collectors.joining(", ")), System.currentTimeMillis() - start);
+			subMonitor.subTask(message);
+			JavaLanguageServerPlugin.logInfo(message);
+		}
+	}
+
+	/**
+	 * Splits the given projects in batches to build one after the other.
+	 *
+	 * @param projects
+	 *            the projects to build
+	 * @param priorityProjects
+	 *            the projects to build first, along with the projects they
+	 *            depend on
+	 * @param concurrent
+	 *            whether the projects of a batch can be built concurrently
+	 * @return the batches of projects, in build order
+	 */
+	public List<List<IProject>> schedule(Collection<IProject> projects, Collection<IProject> priorityProjects, boolean concurrent) {
+		Set<IProject> first = new LinkedHashSet<>();
+		Deque<IProject> queue = new ArrayDeque<>(priorityProjects);
+		while (!queue.isEmpty()) {
+			IProject project = queue.poll();
+			if (projects.contains(project) && first.add(project)) {
+				try {
+					for (IProject reference : project.getReferencedProjects()) {
+						queue.add(reference);
+					}
+				} catch (CoreException e) {
+					JavaLanguageServerPlugin.logException("Failed to get the projects referenced by " + project.getName(), e);
+				}
+			}
+		}
+		List<IProject> rest = new ArrayList<>(projects);
+		rest.removeAll(first);
+
+		List<List<IProject>> batches = new ArrayList<>();
+		for (Collection<IProject> phase : List.of(first, rest)) {
+			if (phase.isEmpty()) {
+				continue;
+			}
+			if (concurrent) {
+				batches.add(new ArrayList<>(phase));
+			} else {
+				ProjectOrder order = workspace.computeProjectOrder(phase.toArray(new IProject[phase.size()]));
+				for (IProject project : order.projects) {
+					batches.add(List.of(project));
+				}
+			}
+		}
+		return batches;
+	}
+
+	private static Set<IProject> getOpenProjects() {
+		Set<IProject> projects = new LinkedHashSet<>();
+		for (ICompilationUnit unit : JavaCore.getWorkingCopies(null)) {
+			IJavaProject javaProject = unit.getJavaProject();
+			if (javaProject != null) {
+				projects.add(javaProject.getProject());
+			}
+		}
+		return projects;
+	}
+}
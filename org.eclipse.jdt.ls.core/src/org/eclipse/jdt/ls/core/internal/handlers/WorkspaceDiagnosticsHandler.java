@@ -47,6 +47,7 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.ls.core.internal.EventNotification;
 import org.eclipse.jdt.ls.core.internal.EventType;
+import org.eclipse.jdt.ls.core.internal.InteractiveRequests;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
@@ -268,6 +269,7 @@ public final class WorkspaceDiagnosticsHandler implements IResourceChangeListene
 			if (monitor != null && monitor.isCanceled()) {
 				throw new OperationCanceledException();
 			}
+			InteractiveRequests.yieldToInteractive(monitor);
 			if (ProjectsManager.getDefaultProject().equals(project)) {
 				continue;
 			}
@@ -12,7 +12,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.eclipse.core.resources.IResource;
@@ -61,8 +66,10 @@ public class WorkspaceEventsHandler {
 					while (!pm.isBuildFinished()) {
 						Thread.sleep(200);
 					}
-					FileEvent event = queue.take();
-					handleFileEvent(event);
+					List<FileEvent> events = new ArrayList<>();
+					events.add(queue.take());
+					queue.drainTo(events);
+					handleFileEvents(events);
 				} catch (InterruptedException e) {
 					break;
 				}
@@ -96,9 +103,7 @@ public class WorkspaceEventsHandler {
 
 	// for test only
 	public void handleFileEvents(FileEvent... fileEvents) {
-		for (FileEvent fileEvent : fileEvents) {
-			handleFileEvent(fileEvent);
-		}
+		handleFileEvents(Arrays.asList(fileEvents));
 	}
 
 	// for test only
@@ -106,14 +111,58 @@ public class WorkspaceEventsHandler {
 		return queue.isEmpty();
 	}
 
-	private void handleFileEvent(FileEvent fileEvent) {
-		CHANGE_TYPE changeType = toChangeType(fileEvent.getType());
+	private void handleFileEvents(List<FileEvent> fileEvents) {
+		long start = System.currentTimeMillis();
+		Map<String, FileChangeType> changes = coalesce(fileEvents);
+		Map<String, CHANGE_TYPE> projectChanges = new LinkedHashMap<>();
+		changes.forEach((uri, type) -> {
+			CHANGE_TYPE changeType = toChangeType(type);
+			if (handleFileEvent(uri, changeType)) {
+				projectChanges.put(uri, changeType);
+			}
+		});
+		pm.filesChanged(projectChanges);
+		if (fileEvents.size() > 1) {
+			JavaLanguageServerPlugin.logInfo(String.format("Handled %d file events (%d after coalescing) in %dms", fileEvents.size(), changes.size(), System.currentTimeMillis() - start));
+		}
+	}
+
+	/**
+	 * Coalesces the given events into one change per file, in the order of
+	 * their first event. A file created then deleted is left out, a file
+	 * deleted then created is changed.
+	 */
+	static Map<String, FileChangeType> coalesce(List<FileEvent> fileEvents) {
+		Map<String, FileChangeType> changes = new LinkedHashMap<>();
+		for (FileEvent fileEvent : fileEvents) {
+			String uri = fileEvent.getUri();
+			FileChangeType type = fileEvent.getType();
+			FileChangeType previous = changes.get(uri);
+			if (previous == null) {
+				changes.put(uri, type);
+			} else if (previous == FileChangeType.Created) {
+				if (type == FileChangeType.Deleted) {
+					changes.remove(uri);
+				}
+			} else if (previous == FileChangeType.Deleted && type == FileChangeType.Created) {
+				changes.put(uri, FileChangeType.Changed);
+			} else {
+				changes.put(uri, type);
+			}
+		}
+		return changes;
+	}
+
+	/**
+	 * @return whether the change must be handled by the projects manager
+	 */
+	private boolean handleFileEvent(String uri, CHANGE_TYPE changeType) {
 		if (changeType == CHANGE_TYPE.DELETED) {
-			cleanUpDiagnostics(fileEvent.getUri());
-			handler.didClose(new DidCloseTextDocumentParams(new TextDocumentIdentifier(fileEvent.getUri())));
-			discardWorkingCopies(fileEvent.getUri());
+			cleanUpDiagnostics(uri);
+			handler.didClose(new DidCloseTextDocumentParams(new TextDocumentIdentifier(uri)));
+			discardWorkingCopies(uri);
 		}
-		ICompilationUnit unit = JDTUtils.resolveCompilationUnit(fileEvent.getUri());
+		ICompilationUnit unit = JDTUtils.resolveCompilationUnit(uri);
 		if (unit != null && changeType == CHANGE_TYPE.CREATED && !unit.exists()) {
 			final ICompilationUnit[] units = new ICompilationUnit[1];
 			units[0] = unit;
@@ -139,7 +188,7 @@ public class WorkspaceEventsHandler {
 				} catch (CoreException e) {
 					JavaLanguageServerPlugin.logException(e.getMessage(), e);
 				}
-				return;
+				return false;
 			}
 			if (changeType == CHANGE_TYPE.DELETED || changeType == CHANGE_TYPE.CHANGED) {
 				if (unit.equals(CoreASTProvider.getInstance().getActiveJavaElement())) {
@@ -147,7 +196,7 @@ public class WorkspaceEventsHandler {
 				}
 			}
 		}
-		pm.fileChanged(fileEvent.getUri(), changeType);
+		return true;
 	}
 
 	private ICompilationUnit createCompilationUnit(ICompilationUnit unit) {
@@ -12,16 +12,23 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
@@ -34,7 +41,9 @@ import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
+import org.eclipse.jdt.ls.core.internal.SearchScopeCache;
 import org.eclipse.jdt.ls.core.internal.SearchUtils;
+import org.eclipse.jdt.ls.core.internal.handlers.WorkspaceSymbolIndex.SymbolEntry;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences.SearchScope;
 import org.eclipse.lsp4j.Location;
@@ -59,6 +68,17 @@ public class WorkspaceSymbolHandler {
 			return new ArrayList<>(symbols);
 		}
 
+		PreferenceManager preferenceManager = JavaLanguageServerPlugin.getPreferencesManager();
+		WorkspaceSymbolIndex index = WorkspaceSymbolIndex.getInstance();
+		if (preferenceManager != null && preferenceManager.getPreferences().isSymbolsFuzzyIndexEnabled()) {
+			index.install();
+			if (index.isReady() && isSimpleName(query.trim())) {
+				return searchIndex(index, query.trim(), maxResults, projectName, sourceOnly, monitor);
+			}
+		} else {
+			index.uninstall();
+		}
+
 		try {
 			monitor.beginTask("Searching the types...", 100);
 			IJavaSearchScope searchScope = createSearchScope(projectName, sourceOnly);
@@ -98,10 +118,6 @@ public class WorkspaceSymbolHandler {
 			if (typeName.contains("*") || typeName.contains("?")) {
 				typeMatchRule = SearchPattern.R_PATTERN_MATCH;
 			}
-
-
-			PreferenceManager preferenceManager = JavaLanguageServerPlugin.getPreferencesManager();
-
 			SearchEngine engine = new SearchEngine();
 			boolean isSymbolTagSupported = preferenceManager != null && preferenceManager.getClientPreferences().isSymbolTagSupported();
 			WorkspaceSymbolTypeRequestor typeRequestor = new WorkspaceSymbolTypeRequestor(symbols, maxResults, sourceOnly, isSymbolTagSupported, monitor);
@@ -131,6 +147,113 @@ public class WorkspaceSymbolHandler {
 		return new ArrayList<>(symbols);
 	}
 
+	private static boolean isSimpleName(String query) {
+		for (char c : query.toCharArray()) {
+			if (!Character.isJavaIdentifierPart(c)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Answers the query from the in-memory index of the source symbols, and
+	 * falls back to the JDT index for the library symbols only.
+	 */
+	private static List<SymbolInformation> searchIndex(WorkspaceSymbolIndex index, String query, int maxResults, String projectName, boolean sourceOnly, IProgressMonitor monitor) {
+		Set<SymbolInformation> symbols = new LinkedHashSet<>();
+		PreferenceManager preferenceManager = JavaLanguageServerPlugin.getPreferencesManager();
+		boolean isSymbolTagSupported = preferenceManager.getClientPreferences().isSymbolTagSupported();
+		boolean includeMethods = preferenceManager.getPreferences().isIncludeSourceMethodDeclarations();
+		boolean excludeTestCode = preferenceManager.getPreferences().getSearchScope() == SearchScope.main;
+		IJavaProject project = ProjectUtils.getJavaProject(projectName);
+		try {
+			monitor.beginTask("Searching the symbols...", 100);
+			Set<String> projectNames = project == null ? null : getReferencedProjectNames(project);
+			List<SymbolEntry> entries = index.query(query, maxResults, entry -> (includeMethods || !entry.isMethod()) && !(excludeTestCode && entry.isTest()) && entry.isInProjects(projectNames));
+			for (SymbolEntry entry : entries) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				IJavaElement element = entry.getElement();
+				if (!(element instanceof IMember member) || !member.exists()) {
+					continue;
+				}
+				Location location = JDTUtils.toLocation(member);
+				if (location == null) {
+					continue;
+				}
+				SymbolInformation symbolInformation = new SymbolInformation();
+				symbolInformation.setContainerName(entry.getContainerName());
+				symbolInformation.setName(entry.getName());
+				symbolInformation.setKind(entry.isMethod() ? SymbolKind.Method : mapKind(entry.getFlags()));
+				if (Flags.isDeprecated(member.getFlags())) {
+					if (isSymbolTagSupported) {
+						symbolInformation.setTags(List.of(SymbolTag.Deprecated));
+					} else {
+						symbolInformation.setDeprecated(true);
+					}
+				}
+				symbolInformation.setLocation(location);
+				symbols.add(symbolInformation);
+			}
+
+			SearchScope searchScope = preferenceManager.getPreferences().getSearchScope();
+			boolean hasCapacity = maxResults <= 0 || symbols.size() < maxResults;
+			if (hasCapacity && !sourceOnly && searchScope != SearchScope.projectOnly && preferenceManager.isClientSupportsClassFileContent()) {
+				IJavaProject[] targetProjects = project != null ? new IJavaProject[] { project } : ProjectUtils.getJavaProjects();
+				IJavaSearchScope libraryScope = SearchEngine.createJavaSearchScope(targetProjects, IJavaSearchScope.APPLICATION_LIBRARIES | IJavaSearchScope.SYSTEM_LIBRARIES);
+				Set<SymbolInformation> librarySymbols = new HashSet<>();
+				int remaining = maxResults > 0 ? maxResults - symbols.size() : 0;
+				// the requestor cancels its own monitor once the limit is reached, the library symbols found so far being kept
+				IProgressMonitor libraryMonitor = new NullProgressMonitor() {
+					@Override
+					public boolean isCanceled() {
+						return super.isCanceled() || monitor.isCanceled();
+					}
+				};
+				WorkspaceSymbolTypeRequestor typeRequestor = new WorkspaceSymbolTypeRequestor(librarySymbols, remaining, false, isSymbolTagSupported, libraryMonitor);
+				try {
+					new SearchEngine().searchAllTypeNames(null, SearchPattern.R_PATTERN_MATCH, query.toCharArray(), SearchPattern.R_CAMELCASE_MATCH, IJavaSearchConstants.TYPE, libraryScope, typeRequestor,
+							IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, libraryMonitor);
+				} finally {
+					librarySymbols.stream()
+							.sorted(Comparator.comparingInt((SymbolInformation s) -> -WorkspaceSymbolIndex.matchScore(query, s.getName())).thenComparing(SymbolInformation::getName))
+							.forEach(symbols::add);
+				}
+			}
+		} catch (OperationCanceledException e) {
+			// ignore.
+		} catch (Exception e) {
+			JavaLanguageServerPlugin.logException("Problem getting search for" + query, e);
+		} finally {
+			monitor.done();
+		}
+		return new ArrayList<>(symbols);
+	}
+
+	/**
+	 * @return the names of the given project and of the projects it requires,
+	 *         directly or not, as included in the search scope of the project
+	 */
+	private static Set<String> getReferencedProjectNames(IJavaProject project) throws JavaModelException {
+		Set<String> projectNames = new HashSet<>();
+		Deque<IJavaProject> queue = new ArrayDeque<>();
+		queue.add(project);
+		while (!queue.isEmpty()) {
+			IJavaProject javaProject = queue.poll();
+			if (projectNames.add(javaProject.getElementName()) && javaProject.exists()) {
+				for (String requiredProjectName : javaProject.getRequiredProjectNames()) {
+					IJavaProject requiredProject = ProjectUtils.getJavaProject(requiredProjectName);
+					if (requiredProject != null) {
+						queue.add(requiredProject);
+					}
+				}
+			}
+		}
+		return projectNames;
+	}
+
 	private static IJavaSearchScope createSearchScope(String projectName, boolean sourceOnly) throws JavaModelException {
 		IJavaProject[] targetProjects;
 		IJavaProject project = ProjectUtils.getJavaProject(projectName);
@@ -150,7 +273,7 @@ public class WorkspaceSymbolHandler {
 			scope |= IJavaSearchScope.APPLICATION_LIBRARIES | IJavaSearchScope.SYSTEM_LIBRARIES;
 		}
 		var excludeTestCode = searchScope == SearchScope.main;
-		return SearchEngine.createJavaSearchScope(excludeTestCode, targetProjects, scope);
+		return SearchScopeCache.getInstance().getSearchScope(targetProjects, scope, excludeTestCode);
 	}
 
 	public static class SearchSymbolParams extends WorkspaceSymbolParams {
@@ -228,18 +351,21 @@ public class WorkspaceSymbolHandler {
 		}
 
 		private SymbolKind mapKind(TypeNameMatch match) {
-			int flags = match.getModifiers();
-			if (Flags.isInterface(flags)) {
-				return SymbolKind.Interface;
-			}
-			if (Flags.isAnnotation(flags)) {
-				return SymbolKind.Property;
-			}
-			if (Flags.isEnum(flags)) {
-				return SymbolKind.Enum;
-			}
-			return SymbolKind.Class;
+			return WorkspaceSymbolHandler.mapKind(match.getModifiers());
+		}
+	}
+
+	private static SymbolKind mapKind(int flags) {
+		if (Flags.isInterface(flags)) {
+			return SymbolKind.Interface;
+		}
+		if (Flags.isAnnotation(flags)) {
+			return SymbolKind.Property;
+		}
+		if (Flags.isEnum(flags)) {
+			return SymbolKind.Enum;
 		}
+		return SymbolKind.Class;
 	}
 
 	private static class WorkspaceSymbolMethodRequestor extends MethodNameMatchRequestor {
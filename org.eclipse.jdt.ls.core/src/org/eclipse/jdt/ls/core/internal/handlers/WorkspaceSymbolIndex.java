@@ -0,0 +1,541 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.MethodNameMatch;
+import org.eclipse.jdt.core.search.MethodNameMatchRequestor;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.ProjectUtils;
+
+/**
+ * In-memory index of the type and method names declared in the workspace
+ * sources, used to answer fuzzy workspace symbol queries without going through
+ * the JDT search engine on every keystroke.
+ *
+ * The index is populated once from the JDT index and then maintained
+ * incrementally from the Java model deltas. Names are indexed by their
+ * lower-cased trigrams (for substring matches) and by their first character
+ * (for prefix and camel case matches). Library symbols are not indexed, they
+ * are still looked up through the JDT index by {@link WorkspaceSymbolHandler}.
+ */
+public class WorkspaceSymbolIndex implements IElementChangedListener {
+
+	private static final WorkspaceSymbolIndex INSTANCE = new WorkspaceSymbolIndex();
+
+	/**
+	 * Units touched within this period get a ranking bonus.
+	 */
+	private static final long RECENCY_PERIOD = 10 * 60 * 1000L;
+	private static final int RECENCY_BONUS = 50;
+
+	static final int SCORE_EXACT = 1000;
+	static final int SCORE_PREFIX = 800;
+	static final int SCORE_CAMEL_CASE = 600;
+	static final int SCORE_SUBSTRING = 400;
+	static final int SCORE_SUBSEQUENCE = 200;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, List<SymbolEntry>> entriesByUnit = new HashMap<>();
+	private final Map<String, Set<SymbolEntry>> trigramIndex = new HashMap<>();
+	private final Map<Character, Set<SymbolEntry>> initialIndex = new HashMap<>();
+	private final Map<String, Long> unitRecency = new ConcurrentHashMap<>();
+	private final Set<String> pendingUnits = ConcurrentHashMap.newKeySet();
+	private volatile boolean ready;
+	private volatile boolean building;
+	private boolean installed;
+
+	WorkspaceSymbolIndex() {
+	}
+
+	public static WorkspaceSymbolIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Registers the index as Java element change listener and schedules the
+	 * initial population of the index.
+	 */
+	public synchronized void install() {
+		if (installed) {
+			return;
+		}
+		installed = true;
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		scheduleRebuild();
+	}
+
+	public synchronized void uninstall() {
+		if (!installed) {
+			return;
+		}
+		installed = false;
+		JavaCore.removeElementChangedListener(this);
+		ready = false;
+		clear();
+	}
+
+	/**
+	 * @return <code>true</code> once the initial population of the index
+	 *         completed, and queries can be answered from the index.
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	private void scheduleRebuild() {
+		Job job = new Job("Building workspace symbol index") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					rebuild(monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (JavaModelException e) {
+					JavaLanguageServerPlugin.logException("Failed to build the workspace symbol index", e);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setPriority(Job.DECORATE);
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	private void rebuild(IProgressMonitor monitor) throws JavaModelException {
+		building = true;
+		try {
+			Map<String, List<SymbolEntry>> collected = new HashMap<>();
+			IJavaSearchScope scope = SearchEngine.createJavaSearchScope(ProjectUtils.getJavaProjects(), IJavaSearchScope.SOURCES);
+			Map<IPackageFragmentRoot, Boolean> testRoots = new HashMap<>();
+			SearchEngine engine = new SearchEngine();
+			engine.searchAllTypeNames(null, SearchPattern.R_PATTERN_MATCH, null, SearchPattern.R_PATTERN_MATCH, IJavaSearchConstants.TYPE, scope, new TypeNameMatchRequestor() {
+				@Override
+				public void acceptTypeNameMatch(TypeNameMatch match) {
+					IType type = match.getType();
+					ICompilationUnit unit = type == null ? null : type.getCompilationUnit();
+					if (unit != null) {
+						boolean test = isTest(match.getPackageFragmentRoot(), testRoots);
+						collected.computeIfAbsent(unit.getHandleIdentifier(), k -> new ArrayList<>()).add(SymbolEntry.of(type, match.getTypeContainerName(), match.getModifiers(), test));
+					}
+				}
+			}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+			engine.searchAllMethodNames(null, SearchPattern.R_PATTERN_MATCH, "*".toCharArray(), SearchPattern.R_PATTERN_MATCH, scope, new MethodNameMatchRequestor() {
+				@Override
+				public void acceptMethodNameMatch(MethodNameMatch match) {
+					IMethod method = match.getMethod();
+					ICompilationUnit unit = method == null ? null : method.getCompilationUnit();
+					if (unit != null && !method.isLambdaMethod()) {
+						boolean test = isTest((IPackageFragmentRoot) method.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT), testRoots);
+						collected.computeIfAbsent(unit.getHandleIdentifier(), k -> new ArrayList<>()).add(SymbolEntry.of(method, match.getModifiers(), test));
+					}
+				}
+			}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+			lock.writeLock().lock();
+			try {
+				clear();
+				collected.forEach(this::putEntries);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		} finally {
+			building = false;
+		}
+		ready = true;
+		// units changed while the index was being built
+		for (String handle : new ArrayList<>(pendingUnits)) {
+			pendingUnits.remove(handle);
+			IJavaElement element = JavaCore.create(handle);
+			if (element instanceof ICompilationUnit unit) {
+				reindex(unit);
+			}
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (event.getType() == ElementChangedEvent.POST_RECONCILE) {
+			IJavaElement element = event.getDelta().getElement();
+			if (element instanceof ICompilationUnit unit) {
+				touch(unit.getPrimary());
+			}
+			return;
+		}
+		processDelta(event.getDelta());
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					processDelta(child);
+				}
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				int flags = delta.getFlags();
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED)) != 0) {
+					// the set of source folders might have changed, rebuild from the JDT index
+					if (ready) {
+						ready = false;
+						scheduleRebuild();
+					}
+				} else {
+					for (IJavaElementDelta child : delta.getAffectedChildren()) {
+						processDelta(child);
+					}
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit = (ICompilationUnit) element;
+				if (unit.isWorkingCopy() && delta.getKind() == IJavaElementDelta.CHANGED && (delta.getFlags() & IJavaElementDelta.F_PRIMARY_RESOURCE) == 0) {
+					// unsaved changes of a working copy, the index only contains saved content
+					break;
+				}
+				ICompilationUnit primary = unit.getPrimary();
+				if (building) {
+					pendingUnits.add(primary.getHandleIdentifier());
+				} else if (ready) {
+					reindex(primary);
+				}
+				touch(primary);
+				break;
+			default:
+				break;
+		}
+	}
+
+	private void reindex(ICompilationUnit unit) {
+		List<SymbolEntry> entries = new ArrayList<>();
+		if (unit.exists()) {
+			try {
+				IPackageFragmentRoot root = (IPackageFragmentRoot) unit.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+				boolean test = isTest(root, new HashMap<>());
+				for (IType type : unit.getAllTypes()) {
+					IType declaringType = type.getDeclaringType();
+					String container = declaringType != null ? declaringType.getFullyQualifiedName('.') : type.getPackageFragment().getElementName();
+					entries.add(SymbolEntry.of(type, container, type.getFlags(), test));
+					for (IMethod method : type.getMethods()) {
+						entries.add(SymbolEntry.of(method, method.getFlags(), test));
+					}
+				}
+			} catch (JavaModelException e) {
+				JavaLanguageServerPlugin.logException("Failed to index symbols of " + unit.getElementName(), e);
+			}
+		}
+		lock.writeLock().lock();
+		try {
+			removeEntries(unit.getHandleIdentifier());
+			if (!entries.isEmpty()) {
+				putEntries(unit.getHandleIdentifier(), entries);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static boolean isTest(IPackageFragmentRoot root, Map<IPackageFragmentRoot, Boolean> cache) {
+		if (root == null) {
+			return false;
+		}
+		return cache.computeIfAbsent(root, r -> {
+			try {
+				return r.getRawClasspathEntry().isTest();
+			} catch (JavaModelException e) {
+				return false;
+			}
+		});
+	}
+
+	void touch(ICompilationUnit unit) {
+		unitRecency.put(unit.getHandleIdentifier(), System.currentTimeMillis());
+	}
+
+	/**
+	 * Must be called while holding the write lock.
+	 */
+	void putEntries(String unitHandle, List<SymbolEntry> entries) {
+		entriesByUnit.put(unitHandle, entries);
+		for (SymbolEntry entry : entries) {
+			for (String trigram : trigrams(entry.lowerName)) {
+				trigramIndex.computeIfAbsent(trigram, k -> new HashSet<>()).add(entry);
+			}
+			initialIndex.computeIfAbsent(entry.lowerName.charAt(0), k -> new HashSet<>()).add(entry);
+		}
+	}
+
+	/**
+	 * Must be called while holding the write lock.
+	 */
+	private void removeEntries(String unitHandle) {
+		List<SymbolEntry> entries = entriesByUnit.remove(unitHandle);
+		if (entries == null) {
+			return;
+		}
+		for (SymbolEntry entry : entries) {
+			for (String trigram : trigrams(entry.lowerName)) {
+				Set<SymbolEntry> posting = trigramIndex.get(trigram);
+				if (posting != null) {
+					posting.remove(entry);
+					if (posting.isEmpty()) {
+						trigramIndex.remove(trigram);
+					}
+				}
+			}
+			Set<SymbolEntry> initials = initialIndex.get(entry.lowerName.charAt(0));
+			if (initials != null) {
+				initials.remove(entry);
+			}
+		}
+	}
+
+	private void clear() {
+		entriesByUnit.clear();
+		trigramIndex.clear();
+		initialIndex.clear();
+	}
+
+	/**
+	 * Returns the entries matching the given query, best matches first.
+	 *
+	 * @param query
+	 *            the simple name query, without qualifier nor wildcards
+	 * @param maxResults
+	 *            the maximum number of entries to return, <code>0</code> for
+	 *            no limit
+	 * @param filter
+	 *            filter applied to the candidate entries
+	 */
+	public List<SymbolEntry> query(String query, int maxResults, Predicate<SymbolEntry> filter) {
+		if (query == null || query.isEmpty()) {
+			return Collections.emptyList();
+		}
+		String lowerQuery = query.toLowerCase();
+		Set<SymbolEntry> candidates = new LinkedHashSet<>();
+		lock.readLock().lock();
+		try {
+			Set<SymbolEntry> initials = initialIndex.get(lowerQuery.charAt(0));
+			if (initials != null) {
+				candidates.addAll(initials);
+			}
+			if (lowerQuery.length() >= 3) {
+				candidates.addAll(substringCandidates(lowerQuery));
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		long now = System.currentTimeMillis();
+		List<RankedEntry> ranked = new ArrayList<>();
+		for (SymbolEntry entry : candidates) {
+			int score = matchScore(query, entry.name);
+			if (score < 0 || !filter.test(entry)) {
+				continue;
+			}
+			Long touched = unitRecency.get(entry.unitHandle);
+			if (touched != null && now - touched < RECENCY_PERIOD) {
+				score += (int) (RECENCY_BONUS * (RECENCY_PERIOD - (now - touched)) / RECENCY_PERIOD);
+			}
+			ranked.add(new RankedEntry(entry, score));
+		}
+		ranked.sort(RankedEntry.ORDER);
+		List<SymbolEntry> result = new ArrayList<>();
+		for (RankedEntry r : ranked) {
+			if (maxResults > 0 && result.size() >= maxResults) {
+				break;
+			}
+			result.add(r.entry);
+		}
+		return result;
+	}
+
+	private Set<SymbolEntry> substringCandidates(String lowerQuery) {
+		List<Set<SymbolEntry>> postings = new ArrayList<>();
+		for (String trigram : trigrams(lowerQuery)) {
+			Set<SymbolEntry> posting = trigramIndex.get(trigram);
+			if (posting == null) {
+				return Collections.emptySet();
+			}
+			postings.add(posting);
+		}
+		postings.sort(Comparator.comparingInt(Set::size));
+		Set<SymbolEntry> result = new HashSet<>(postings.get(0));
+		for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+			result.retainAll(postings.get(i));
+		}
+		return result;
+	}
+
+	static Set<String> trigrams(String lowerName) {
+		Set<String> result = new HashSet<>();
+		for (int i = 0; i + 3 <= lowerName.length(); i++) {
+			result.add(lowerName.substring(i, i + 3));
+		}
+		return result;
+	}
+
+	/**
+	 * Computes how well the name matches the query. Exact matches rank first,
+	 * followed by prefix, camel case, substring and subsequence matches.
+	 * Shorter names rank higher within the same category.
+	 *
+	 * @return the score, or <code>-1</code> if the name does not match
+	 */
+	static int matchScore(String query, String name) {
+		if (name.length() < query.length()) {
+			return -1;
+		}
+		int lengthPenalty = Math.min(name.length() - query.length(), 100);
+		if (name.equals(query)) {
+			return SCORE_EXACT + 10;
+		}
+		if (name.equalsIgnoreCase(query)) {
+			return SCORE_EXACT;
+		}
+		if (name.regionMatches(true, 0, query, 0, query.length())) {
+			return SCORE_PREFIX - lengthPenalty;
+		}
+		if (SearchPattern.camelCaseMatch(query, name)) {
+			return SCORE_CAMEL_CASE - lengthPenalty;
+		}
+		String lowerName = name.toLowerCase();
+		String lowerQuery = query.toLowerCase();
+		int index = lowerName.indexOf(lowerQuery);
+		if (index >= 0) {
+			return SCORE_SUBSTRING - Math.min(index, 100) - lengthPenalty / 2;
+		}
+		int gaps = 0;
+		int pos = 0;
+		for (int i = 0; i < lowerQuery.length(); i++) {
+			int next = lowerName.indexOf(lowerQuery.charAt(i), pos);
+			if (next < 0) {
+				return -1;
+			}
+			gaps += next - pos;
+			pos = next + 1;
+		}
+		return SCORE_SUBSEQUENCE - Math.min(gaps, 150);
+	}
+
+	public static final class SymbolEntry {
+		final String name;
+		final String lowerName;
+		final String containerName;
+		final String handleIdentifier;
+		final String unitHandle;
+		final String projectName;
+		final int flags;
+		final boolean method;
+		final boolean test;
+
+		SymbolEntry(String name, String containerName, String handleIdentifier, String unitHandle, String projectName, int flags, boolean method, boolean test) {
+			this.name = name;
+			this.lowerName = name.toLowerCase();
+			this.containerName = containerName;
+			this.handleIdentifier = handleIdentifier;
+			this.unitHandle = unitHandle;
+			this.projectName = projectName;
+			this.flags = flags;
+			this.method = method;
+			this.test = test;
+		}
+
+		static SymbolEntry of(IType type, String containerName, int flags, boolean test) {
+			return new SymbolEntry(type.getElementName(), containerName, type.getHandleIdentifier(), type.getCompilationUnit().getHandleIdentifier(), type.getJavaProject().getElementName(), flags, false, test);
+		}
+
+		static SymbolEntry of(IMethod method, int flags, boolean test) {
+			return new SymbolEntry(method.getElementName(), method.getDeclaringType().getFullyQualifiedName(), method.getHandleIdentifier(), method.getCompilationUnit().getHandleIdentifier(), method.getJavaProject().getElementName(), flags, true, test);
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getContainerName() {
+			return containerName;
+		}
+
+		public String getProjectName() {
+			return projectName;
+		}
+
+		public int getFlags() {
+			return flags;
+		}
+
+		public boolean isMethod() {
+			return method;
+		}
+
+		public boolean isTest() {
+			return test;
+		}
+
+		public IJavaElement getElement() {
+			return JavaCore.create(handleIdentifier);
+		}
+
+		/**
+		 * @param projectNames
+		 *            the names of the projects, or <code>null</code> for all
+		 *            the projects
+		 */
+		public boolean isInProjects(Set<String> projectNames) {
+			return projectNames == null || projectNames.contains(projectName);
+		}
+	}
+
+	private record RankedEntry(SymbolEntry entry, int score) {
+		static final Comparator<RankedEntry> ORDER = Comparator.comparingInt(RankedEntry::score).reversed()
+				.thenComparingInt(r -> r.entry.name.length())
+				.thenComparing(r -> r.entry.name);
+	}
+}
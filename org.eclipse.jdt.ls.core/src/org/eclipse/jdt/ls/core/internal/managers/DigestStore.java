@@ -102,6 +102,45 @@ public class DigestStore {
 
 	}
 
+	/**
+	 * @return the digest recorded for the given key, or <code>null</code>
+	 */
+	public String getDigest(String key) {
+		synchronized (fileDigests) {
+			return fileDigests.get(key);
+		}
+	}
+
+	/**
+	 * Records a digest computed by the caller, e.g. the digest of all the inputs
+	 * of a build.
+	 */
+	public void setDigest(String key, String digest) {
+		synchronized (fileDigests) {
+			if (!digest.equals(fileDigests.put(key, digest))) {
+				serializeFileDigests();
+			}
+		}
+	}
+
+	/**
+	 * Restores the given digests, e.g. the ones recorded before a project update
+	 * which didn't complete. A <code>null</code> digest removes the recorded
+	 * one.
+	 */
+	public void restoreDigests(Map<String, String> digests) {
+		synchronized (fileDigests) {
+			for (Map.Entry<String, String> entry : digests.entrySet()) {
+				if (entry.getValue() == null) {
+					fileDigests.remove(entry.getKey());
+				} else {
+					fileDigests.put(entry.getKey(), entry.getValue());
+				}
+			}
+			serializeFileDigests();
+		}
+	}
+
 	private void serializeFileDigests() {
 		try (ObjectOutputStream outStream = new ObjectOutputStream(new FileOutputStream(stateFile))) {
 			outStream.writeObject(fileDigests);
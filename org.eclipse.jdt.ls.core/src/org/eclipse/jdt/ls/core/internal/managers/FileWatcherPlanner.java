@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.ResourceUtils;
+import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
+import org.eclipse.lsp4j.DidChangeWatchedFilesRegistrationOptions;
+import org.eclipse.lsp4j.FileSystemWatcher;
+import org.eclipse.lsp4j.Registration;
+import org.eclipse.lsp4j.RelativePattern;
+import org.eclipse.lsp4j.Unregistration;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+/**
+ * Plans the file watchers registered with the client.
+ *
+ * Sibling patterns, such as the libraries of a folder or the source folders of
+ * a project, are merged into a single brace pattern once there are
+ * {@value #MIN_MERGED_PATTERNS} or more of them. The watchers are then
+ * registered in one registration per project root (plus one for the patterns
+ * which don't belong to a project), and only the registrations whose
+ * watchers changed since the previous plan are sent to the client again.
+ */
+public class FileWatcherPlanner {
+
+	static final int MIN_MERGED_PATTERNS = 4;
+
+	private static final String GLOB_CHARACTERS = "*?[]{},";
+
+	private final Map<String, List<FileSystemWatcher>> registrations = new LinkedHashMap<>();
+
+	/**
+	 * Registers the given watchers, sending the client only the registrations
+	 * which changed.
+	 *
+	 * @param watchers
+	 *            the (compressed) watchers
+	 * @param roots
+	 *            the locations of the projects, by project name
+	 * @return <code>true</code> if any registration was sent to the client
+	 */
+	public synchronized boolean register(List<FileSystemWatcher> watchers, Map<String, IPath> roots) {
+		Map<String, List<FileSystemWatcher>> planned = groupByRoot(watchers, roots);
+		List<Unregistration> unregistrations = new ArrayList<>();
+		List<Registration> newRegistrations = new ArrayList<>();
+		for (Entry<String, List<FileSystemWatcher>> registration : registrations.entrySet()) {
+			if (!registration.getValue().equals(planned.get(registration.getKey()))) {
+				unregistrations.add(new Unregistration(registration.getKey(), Preferences.WORKSPACE_WATCHED_FILES));
+			}
+		}
+		for (Entry<String, List<FileSystemWatcher>> registration : planned.entrySet()) {
+			if (!registration.getValue().equals(registrations.get(registration.getKey()))) {
+				newRegistrations.add(new Registration(registration.getKey(), Preferences.WORKSPACE_WATCHED_FILES, new DidChangeWatchedFilesRegistrationOptions(registration.getValue())));
+			}
+		}
+		registrations.clear();
+		registrations.putAll(planned);
+		if (unregistrations.isEmpty() && newRegistrations.isEmpty()) {
+			return false;
+		}
+		JavaLanguageServerPlugin.logInfo(String.format(">> registerFeature 'workspace/didChangeWatchedFiles': %d patterns in %d registrations (%d unregistered, %d registered)", getActivePatternCount(), registrations.size(),
+				unregistrations.size(), newRegistrations.size()));
+		if (!unregistrations.isEmpty()) {
+			JavaLanguageServerPlugin.getInstance().unregisterCapabilities(unregistrations);
+		}
+		if (!newRegistrations.isEmpty()) {
+			JavaLanguageServerPlugin.getInstance().registerCapabilities(newRegistrations);
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of patterns currently watched by the client
+	 */
+	public synchronized int getActivePatternCount() {
+		return registrations.values().stream().mapToInt(List::size).sum();
+	}
+
+	/**
+	 * Merges the sibling patterns of the given watchers and removes the
+	 * duplicates. The order of the watchers is preserved, a merged watcher
+	 * takes the place of its first pattern.
+	 */
+	public static List<FileSystemWatcher> compress(List<FileSystemWatcher> watchers) {
+		Map<String, Set<String>> siblings = new LinkedHashMap<>();
+		for (FileSystemWatcher watcher : watchers) {
+			String key = getSiblingKey(watcher);
+			if (key != null) {
+				siblings.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(getName(watcher));
+			}
+		}
+		Set<FileSystemWatcher> result = new LinkedHashSet<>();
+		Set<String> merged = new LinkedHashSet<>();
+		for (FileSystemWatcher watcher : watchers) {
+			String key = getSiblingKey(watcher);
+			Set<String> names = key == null ? null : siblings.get(key);
+			if (names == null || names.size() < MIN_MERGED_PATTERNS) {
+				result.add(watcher);
+			} else if (merged.add(key)) {
+				result.add(merge(watcher, names));
+			}
+		}
+		return new ArrayList<>(result);
+	}
+
+	static Map<String, List<FileSystemWatcher>> groupByRoot(List<FileSystemWatcher> watchers, Map<String, IPath> roots) {
+		Map<String, List<FileSystemWatcher>> groups = new LinkedHashMap<>();
+		for (FileSystemWatcher watcher : watchers) {
+			String id = Preferences.WORKSPACE_WATCHED_FILES_ID;
+			IPath location = getLocation(watcher);
+			if (location != null) {
+				int matched = 0;
+				for (Entry<String, IPath> root : roots.entrySet()) {
+					IPath rootLocation = root.getValue();
+					if (rootLocation != null && rootLocation.segmentCount() > matched && rootLocation.isPrefixOf(location)) {
+						matched = rootLocation.segmentCount();
+						id = Preferences.WORKSPACE_WATCHED_FILES_ID + "-" + root.getKey();
+					}
+				}
+			}
+			groups.computeIfAbsent(id, k -> new ArrayList<>()).add(watcher);
+		}
+		return groups;
+	}
+
+	/**
+	 * @return the key shared by the sibling patterns the watcher could be
+	 *         merged with, or <code>null</code> if it can't be merged
+	 */
+	private static String getSiblingKey(FileSystemWatcher watcher) {
+		Either<String, RelativePattern> pattern = watcher.getGlobPattern();
+		if (pattern.isRight()) {
+			RelativePattern relativePattern = pattern.getRight();
+			if (!isLiteral(relativePattern.getPattern()) || relativePattern.getPattern().contains("/")) {
+				return null;
+			}
+			String base = relativePattern.getBaseUri().map(folder -> folder.getUri(), uri -> uri);
+			return watcher.getKind() + "|" + base;
+		}
+		String glob = pattern.getLeft();
+		if (!glob.endsWith("/**")) {
+			return null;
+		}
+		IPath folder = new Path(glob.substring(0, glob.length() - 3));
+		if (!folder.isAbsolute() || folder.segmentCount() < 2 || !isLiteral(folder.toPortableString())) {
+			return null;
+		}
+		return watcher.getKind() + "|" + folder.removeLastSegments(1).toPortableString();
+	}
+
+	private static String getName(FileSystemWatcher watcher) {
+		Either<String, RelativePattern> pattern = watcher.getGlobPattern();
+		if (pattern.isRight()) {
+			return pattern.getRight().getPattern();
+		}
+		String glob = pattern.getLeft();
+		return new Path(glob.substring(0, glob.length() - 3)).lastSegment();
+	}
+
+	private static FileSystemWatcher merge(FileSystemWatcher watcher, Set<String> names) {
+		String alternatives = "{" + String.join(",", names) + "}";
+		Either<String, RelativePattern> pattern = watcher.getGlobPattern();
+		if (pattern.isRight()) {
+			return new FileSystemWatcher(Either.forRight(new RelativePattern(pattern.getRight().getBaseUri(), alternatives)), watcher.getKind());
+		}
+		String glob = pattern.getLeft();
+		IPath parent = new Path(glob.substring(0, glob.length() - 3)).removeLastSegments(1);
+		return new FileSystemWatcher(Either.forLeft(parent.addTrailingSeparator().toPortableString() + alternatives + "/**"), watcher.getKind());
+	}
+
+	/**
+	 * @return the location the watcher's pattern is anchored to, or
+	 *         <code>null</code> if the pattern matches anywhere
+	 */
+	private static IPath getLocation(FileSystemWatcher watcher) {
+		Either<String, RelativePattern> pattern = watcher.getGlobPattern();
+		if (pattern.isRight()) {
+			RelativePattern relativePattern = pattern.getRight();
+			String base = relativePattern.getBaseUri().map(folder -> folder.getUri(), uri -> uri);
+			IPath location = ResourceUtils.filePathFromURI(base);
+			if (location != null && isLiteral(relativePattern.getPattern())) {
+				location = location.append(relativePattern.getPattern());
+			}
+			return location;
+		}
+		IPath path = new Path(pattern.getLeft());
+		if (!path.isAbsolute()) {
+			return null;
+		}
+		for (int i = 0; i < path.segmentCount(); i++) {
+			if (!isLiteral(path.segment(i))) {
+				return i == 0 ? null : path.uptoSegment(i);
+			}
+		}
+		return path;
+	}
+
+	private static boolean isLiteral(String pattern) {
+		return pattern != null && !pattern.isEmpty() && pattern.chars().noneMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0);
+	}
+
+	synchronized List<String> getRegistrationIds() {
+		return new ArrayList<>(registrations.keySet());
+	}
+}
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.buildship.core.GradleBuild;
+import org.eclipse.buildship.core.GradleCore;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.gradle.tooling.model.build.BuildEnvironment;
+
+/**
+ * Schedules the synchronization of independent Gradle builds.
+ *
+ * Buildship synchronizes a build while holding the workspace root rule, so
+ * the builds are still synchronized one at a time. What can run concurrently
+ * is the preparation of each build: resolving (and possibly downloading) its
+ * Gradle distribution and starting a daemon, up to the configured number of
+ * builds at a time. The synchronization of a build only waits for its own
+ * preparation.
+ *
+ * Builds which took the longest to synchronize last time are scheduled
+ * first, builds which were never synchronized before them.
+ */
+public class GradleBuildScheduler {
+
+	private static final String SYNC_DURATIONS_FILE = "gradleSyncDurations.properties";
+	private static final long POLL_INTERVAL = 100;
+
+	private static Properties previousDurations;
+	private static final Map<Path, Long> lastDurations = Collections.synchronizedMap(new HashMap<>());
+
+	private final List<Path> builds;
+	private final int maxConcurrentBuilds;
+	private final Map<Path, Future<?>> preparations = new HashMap<>();
+	private ExecutorService executor;
+
+	public GradleBuildScheduler(Collection<Path> builds, int maxConcurrentBuilds) {
+		Properties durations = getPreviousDurations();
+		this.builds = new ArrayList<>(builds);
+		this.builds.sort(Comparator.comparingLong(build -> -getDuration(durations, build)));
+		this.maxConcurrentBuilds = Math.max(1, Math.min(maxConcurrentBuilds, builds.size()));
+	}
+
+	/**
+	 * @return the builds, in the order they should be synchronized
+	 */
+	public List<Path> getBuilds() {
+		return builds;
+	}
+
+	/**
+	 * Starts preparing the builds which need to be synchronized, when more than
+	 * one build can be prepared at a time.
+	 */
+	public void start(IProgressMonitor monitor) {
+		if (maxConcurrentBuilds <= 1) {
+			return;
+		}
+		executor = Executors.newFixedThreadPool(maxConcurrentBuilds);
+		for (Path build : builds) {
+			if (GradleProjectImporter.shouldSynchronize(build.toFile())) {
+				preparations.put(build, executor.submit(() -> prepare(build, monitor)));
+			}
+		}
+	}
+
+	/**
+	 * Waits until the given build is prepared.
+	 *
+	 * @throws OperationCanceledException
+	 *             if the monitor is canceled while waiting
+	 */
+	public void awaitPrepared(Path build, IProgressMonitor monitor) {
+		Future<?> preparation = preparations.remove(build);
+		if (preparation == null) {
+			return;
+		}
+		try {
+			while (true) {
+				if (monitor != null && monitor.isCanceled()) {
+					preparation.cancel(true);
+					throw new OperationCanceledException();
+				}
+				try {
+					preparation.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+					return;
+				} catch (TimeoutException e) {
+					// check the monitor again
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | CancellationException e) {
+			// the synchronization will report the failure
+		}
+	}
+
+	public void recordSyncDuration(Path build, long duration) {
+		lastDurations.put(build, duration);
+		Properties durations = getPreviousDurations();
+		synchronized (durations) {
+			durations.setProperty(build.toString(), Long.toString(duration));
+		}
+		JavaLanguageServerPlugin.logInfo(String.format("Gradle build %s synchronized in %dms", build, duration));
+	}
+
+	/**
+	 * Stops the pending preparations and saves the synchronization durations.
+	 */
+	public void finish() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+		preparations.clear();
+		saveDurations();
+	}
+
+	/**
+	 * @return the synchronization durations (in milliseconds) of the Gradle
+	 *         builds synchronized by this language server
+	 */
+	public static Map<Path, Long> getLastSyncDurations() {
+		synchronized (lastDurations) {
+			return new HashMap<>(lastDurations);
+		}
+	}
+
+	private static void prepare(Path build, IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		try {
+			GradleBuild gradleBuild = GradleCore.getWorkspace().createBuild(GradleProjectImporter.getBuildConfiguration(build));
+			gradleBuild.withConnection(connection -> connection.getModel(BuildEnvironment.class), new NullProgressMonitor());
+			JavaLanguageServerPlugin.logInfo(String.format("Gradle build %s prepared in %dms", build, System.currentTimeMillis() - start));
+		} catch (Exception e) {
+			JavaLanguageServerPlugin.logInfo(String.format("Failed to prepare Gradle build %s: %s", build, e.getMessage()));
+		}
+	}
+
+	private static long getDuration(Properties durations, Path build) {
+		String duration = durations.getProperty(build.toString());
+		if (duration != null) {
+			try {
+				return Long.parseLong(duration);
+			} catch (NumberFormatException e) {
+				// unknown duration
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+
+	private static synchronized Properties getPreviousDurations() {
+		if (previousDurations == null) {
+			previousDurations = new Properties();
+			File file = getDurationsFile();
+			if (file != null && file.isFile()) {
+				try (InputStream in = new FileInputStream(file)) {
+					previousDurations.load(in);
+				} catch (IOException e) {
+					JavaLanguageServerPlugin.logException("Failed to read the Gradle synchronization durations", e);
+				}
+			}
+		}
+		return previousDurations;
+	}
+
+	private static void saveDurations() {
+		File file = getDurationsFile();
+		if (file == null) {
+			return;
+		}
+		Properties durations = getPreviousDurations();
+		synchronized (durations) {
+			try (OutputStream out = new FileOutputStream(file)) {
+				durations.store(out, null);
+			} catch (IOException e) {
+				JavaLanguageServerPlugin.logException("Failed to save the Gradle synchronization durations", e);
+			}
+		}
+	}
+
+	private static File getDurationsFile() {
+		JavaLanguageServerPlugin plugin = JavaLanguageServerPlugin.getInstance();
+		return plugin == null ? null : plugin.getStateLocation().append(SYNC_DURATIONS_FILE).toFile();
+	}
+}
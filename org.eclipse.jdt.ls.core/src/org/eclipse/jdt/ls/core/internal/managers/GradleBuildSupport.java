@@ -61,6 +61,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.ls.core.internal.FeatureActivator;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
@@ -311,6 +312,10 @@ public class GradleBuildSupport implements IBuildSupport {
 	 * @param monitor
 	 */
 	public static void cleanGradleModels(IProgressMonitor monitor) {
+		if (!FeatureActivator.isGradleActive()) {
+			// the stale models are left until a session starts the Gradle support
+			return;
+		}
 		File projectPreferences = CorePlugin.getInstance().getStateLocation().append("project-preferences").toFile();
 		if (projectPreferences.isDirectory()) {
 			File[] projectFiles = projectPreferences.listFiles();
@@ -341,6 +346,9 @@ public class GradleBuildSupport implements IBuildSupport {
 	 *
 	 */
 	public static void saveModels() {
+		if (!FeatureActivator.isGradleActive()) {
+			return;
+		}
 		CorePlugin.listenerRegistry().dispatch(new WorkbenchShutdownEvent());
 	}
 
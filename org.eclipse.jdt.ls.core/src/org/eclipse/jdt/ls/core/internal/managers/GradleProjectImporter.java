@@ -22,19 +22,28 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -69,6 +78,7 @@ import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.ls.core.internal.AbstractProjectImporter;
 import org.eclipse.jdt.ls.core.internal.EventNotification;
 import org.eclipse.jdt.ls.core.internal.EventType;
+import org.eclipse.jdt.ls.core.internal.FeatureActivator;
 import org.eclipse.jdt.ls.core.internal.IConstants;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
@@ -102,8 +112,6 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 	public static final String SETTINGS_GRADLE_KTS_DESCRIPTOR = "settings.gradle.kts";
 	public static final String GRADLE_WRAPPER_PROPERTIES_DESCRIPTOR = "gradle/wrapper/gradle-wrapper.properties";
 
-	public static final GradleDistribution DEFAULT_DISTRIBUTION = GradleDistribution.forVersion(GradleVersion.current().getVersion());
-
 	public static final String IMPORTING_GRADLE_PROJECTS = "Importing Gradle project(s)";
 
 	public static final String COMPATIBILITY_MARKER_ID = IConstants.PLUGIN_ID + ".gradlecompatibilityerrormarker";
@@ -146,6 +154,15 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 	 */
 	private boolean manualSelection = false;
 
+	private static final Set<String> BUILD_OUTPUT_DIRECTORIES = Set.of("build", "bin", "out", "target", "node_modules");
+	private static final String SOURCE_DIRECTORY = "src";
+	private static final String BUILD_SRC_DIRECTORY = "buildSrc";
+
+	/**
+	 * The build digests computed during the current import, by build root.
+	 */
+	private static volatile Map<File, String> buildDigests;
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.jdt.ls.core.internal.managers.IProjectImporter#applies(org.eclipse.core.runtime.IProgressMonitor)
 	 */
@@ -223,6 +240,16 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 		if (!applies(monitor)) {
 			return;
 		}
+		FeatureActivator.activateGradle();
+		buildDigests = new ConcurrentHashMap<>();
+		try {
+			importBuilds(monitor);
+		} finally {
+			buildDigests = null;
+		}
+	}
+
+	private void importBuilds(IProgressMonitor monitor) throws CoreException {
 		List<Path> directoriesToImport = new ArrayList<>(this.directories);
 		if (manualSelection) {
 			directoriesToImport = eliminateNestedPaths(directoriesToImport);
@@ -236,14 +263,27 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 		inferGradleJavaHome(directoriesToImport.iterator().next(), monitor);
 		MultiStatus compatibilityStatus = new MultiStatus(IConstants.PLUGIN_ID, -1, "Compatibility issue occurs when importing Gradle projects", null);
 		MultiStatus gradleUpgradeWrapperStatus = new MultiStatus(IConstants.PLUGIN_ID, -1, "Gradle upgrade wrapper", null);
-		for (Path directory : directoriesToImport) {
-			IStatus importStatus = importDir(directory, subMonitor.newChild(1));
-			if (isFailedStatus(importStatus) && importStatus instanceof GradleCompatibilityStatus) {
-				compatibilityStatus.add(importStatus);
-			} else if (GradleUtils.hasGradleInvalidTypeCodeException(importStatus, directory, monitor)) {
-				gradleUpgradeWrapperStatus.add(new GradleUpgradeWrapperStatus(importStatus, GRADLE_INVALID_TYPE_CODE_MESSAGE, directory.toUri().toString()));
+		GradleBuildScheduler scheduler = new GradleBuildScheduler(directoriesToImport, getPreferences().getGradleMaxConcurrentBuilds());
+		try {
+			scheduler.start(monitor);
+			for (Path directory : scheduler.getBuilds()) {
+				boolean synchronizing = shouldSynchronize(directory.toFile());
+				subMonitor.subTask(directory.getFileName().toString());
+				scheduler.awaitPrepared(directory, monitor);
+				long start = System.currentTimeMillis();
+				IStatus importStatus = importDir(directory, subMonitor.newChild(1));
+				if (synchronizing && !importStatus.matches(IStatus.CANCEL)) {
+					scheduler.recordSyncDuration(directory, System.currentTimeMillis() - start);
+				}
+				if (isFailedStatus(importStatus) && importStatus instanceof GradleCompatibilityStatus) {
+					compatibilityStatus.add(importStatus);
+				} else if (GradleUtils.hasGradleInvalidTypeCodeException(importStatus, directory, monitor)) {
+					gradleUpgradeWrapperStatus.add(new GradleUpgradeWrapperStatus(importStatus, GRADLE_INVALID_TYPE_CODE_MESSAGE, directory.toUri().toString()));
+				}
+				checkWrapperChecksum(directory);
 			}
-			checkWrapperChecksum(directory);
+		} finally {
+			scheduler.finish();
 		}
 		// store the digest for the imported gradle projects.
 		List<Path> digestPaths = new ArrayList<>();
@@ -436,7 +476,14 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 		if (gradleHomeFile != null) {
 			return GradleDistribution.forLocalInstallation(gradleHomeFile);
 		}
-		return DEFAULT_DISTRIBUTION;
+		return getDefaultDistribution();
+	}
+
+	/**
+	 * @return the distribution of the Gradle version of the tooling API
+	 */
+	public static GradleDistribution getDefaultDistribution() {
+		return DefaultDistribution.INSTANCE;
 	}
 
 	public static File getGradleHomeFile() {
@@ -490,10 +537,14 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 		File location = projectFolder.toFile();
 		boolean shouldSynchronize = shouldSynchronize(location);
 		if (shouldSynchronize) {
+			String buildDigest = getBuildDigest(location);
 			BuildConfiguration build = getBuildConfiguration(projectFolder);
 			GradleBuild gradleBuild = GradleCore.getWorkspace().createBuild(build);
 			SynchronizationResult result = gradleBuild.synchronize(monitor);
 			IStatus resultStatus = result.getStatus();
+			if (resultStatus.isOK() && !buildDigest.isEmpty()) {
+				JavaLanguageServerPlugin.getDigestStore().setDigest(getBuildDigestKey(location), buildDigest);
+			}
 			if (isFailedStatus(resultStatus)) {
 				try {
 					BuildEnvironment environment = gradleBuild.withConnection(connection -> connection.getModel(BuildEnvironment.class), monitor);
@@ -587,6 +638,13 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 		for (IProject project : ProjectUtils.getGradleProjects()) {
 			File projectDir = project.getLocation() == null ? null : project.getLocation().toFile();
 			if (location.equals(projectDir)) {
+				Boolean buildChanged = checkBuildDigest(project, projectDir);
+				if (buildChanged != null) {
+					if (buildChanged) {
+						JavaLanguageServerPlugin.logInfo(project.getName() + " build inputs changed since the last synchronization, must be synchronized");
+					}
+					return buildChanged;
+				}
 				boolean shouldSynchronize = checkGradlePersistence(project, projectDir);
 				if (shouldSynchronize) {
 					JavaLanguageServerPlugin.logInfo(project.getName() + " was modified since last time the workspace was opened, must be synchronized");
@@ -598,6 +656,113 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 		return true;
 	}
 
+	/**
+	 * Compares the inputs of the build with the ones recorded when it was last
+	 * synchronized. When they are the same, the model persisted by Buildship and
+	 * the project metadata are still valid and the build is restored from disk.
+	 *
+	 * @return whether the build must be synchronized, or <code>null</code> if
+	 *         there is no recorded digest to compare with
+	 */
+	private static Boolean checkBuildDigest(IProject project, File projectDir) {
+		String recordedDigest = JavaLanguageServerPlugin.getDigestStore().getDigest(getBuildDigestKey(projectDir));
+		if (recordedDigest == null) {
+			return null;
+		}
+		if (ProjectUtils.isJavaProject(project) && !project.getFile(IJavaProject.CLASSPATH_FILE_NAME).exists()) {
+			return true;
+		}
+		if (!CorePlugin.modelPersistence().loadModel(project).isPresent()) {
+			return true;
+		}
+		return !recordedDigest.equals(getBuildDigest(projectDir));
+	}
+
+	private static String getBuildDigestKey(File projectDir) {
+		return "gradle.build:" + projectDir.getAbsolutePath();
+	}
+
+	/**
+	 * Computes the digest of everything the resolved model of a build depends
+	 * on: build scripts, <code>gradle.properties</code>, version catalogs, the
+	 * wrapper version, <code>buildSrc</code> sources, the init scripts and the
+	 * Gradle settings of the language server.
+	 */
+	private static String getBuildDigest(File projectDir) {
+		Map<File, String> digests = buildDigests;
+		return digests == null ? computeBuildDigest(projectDir) : digests.computeIfAbsent(projectDir, GradleProjectImporter::computeBuildDigest);
+	}
+
+	private static String computeBuildDigest(File dir) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			Path root = dir.toPath();
+			List<Path> inputs = new ArrayList<>();
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attrs) {
+					String name = directory.getFileName() == null ? "" : directory.getFileName().toString();
+					if (!directory.equals(root) && (name.startsWith(".") || BUILD_OUTPUT_DIRECTORIES.contains(name))) {
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+					// the source folders hold no build inputs, except the ones of buildSrc
+					if (SOURCE_DIRECTORY.equals(name) && !root.resolve(BUILD_SRC_DIRECTORY).equals(directory.getParent())) {
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					if (isBuildInput(root.relativize(file))) {
+						inputs.add(file);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException exc) {
+					return FileVisitResult.CONTINUE;
+				}
+			});
+			File gradleUserHome = getGradleUserHomeFile();
+			File userProperties = new File(gradleUserHome == null ? new File(System.getProperty("user.home"), ".gradle") : gradleUserHome, GradleBuildSupport.GRADLE_PROPERTIES);
+			if (userProperties.isFile()) {
+				inputs.add(userProperties.toPath());
+			}
+			List<String> arguments = getGradleInitScriptArgs();
+			for (int i = 0; i < arguments.size() - 1; i++) {
+				if ("--init-script".equals(arguments.get(i))) {
+					inputs.add(Paths.get(arguments.get(i + 1)));
+				}
+			}
+			Collections.sort(inputs);
+			for (Path input : inputs) {
+				digest.update(input.toString().getBytes(StandardCharsets.UTF_8));
+				digest.update(Files.readAllBytes(input));
+			}
+			Preferences preferences = getPreferences();
+			File javaHome = getJavaHome(preferences);
+			String settings = String.join("|", getGradleDistribution(dir.toPath()).toString(), String.valueOf(javaHome), String.valueOf(gradleUserHome), String.join(" ", arguments), String.join(" ", preferences.getGradleArguments()),
+					String.join(" ", preferences.getGradleJvmArguments()), Boolean.toString(preferences.isImportGradleOfflineEnabled()));
+			digest.update(settings.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (IOException | NoSuchAlgorithmException e) {
+			JavaLanguageServerPlugin.logException("Failed to compute the digest of the Gradle build " + dir, e);
+			// an unknown digest never matches the recorded one
+			return "";
+		}
+	}
+
+	private static boolean isBuildInput(Path relativePath) {
+		String name = relativePath.getFileName().toString();
+		if (GradleBuildSupport.GRADLE_FILE_EXT.matcher(name).matches() || GradleBuildSupport.GRADLE_PROPERTIES.equals(name) || name.endsWith(".versions.toml")) {
+			return true;
+		}
+		String path = relativePath.toString().replace(File.separatorChar, '/');
+		return path.equals(GRADLE_WRAPPER_PROPERTIES_DESCRIPTOR) || path.startsWith(BUILD_SRC_DIRECTORY + "/");
+	}
+
 	private static boolean checkGradlePersistence(IProject project, File projectDir) {
 		if (ProjectUtils.isJavaProject(project) && !project.getFile(IJavaProject.CLASSPATH_FILE_NAME).exists()) {
 			return true;
@@ -844,4 +1009,12 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 			this.recommendedGradleVersion = recommendedGradleVersion;
 		}
 	}
+
+	/**
+	 * Initialized on first use, since loading the classes of the Gradle
+	 * support starts it.
+	 */
+	private static final class DefaultDistribution {
+		private static final GradleDistribution INSTANCE = GradleDistribution.forVersion(GradleVersion.current().getVersion());
+	}
 }
@@ -0,0 +1,411 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.ls.core.internal.EventNotification;
+import org.eclipse.jdt.ls.core.internal.EventType;
+import org.eclipse.jdt.ls.core.internal.IConstants;
+import org.eclipse.jdt.ls.core.internal.JDTUtils;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.ProjectUtils;
+import org.eclipse.jdt.ls.core.internal.ResourceUtils;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+
+/**
+ * Imports the Maven and Gradle projects of the workspace folders on demand.
+ *
+ * The build files are located when the workspace is initialized, but a build
+ * is only imported when one of its documents is opened, along with the Maven
+ * modules it depends on. A low priority job imports the remaining builds a
+ * few at a time in the background.
+ *
+ * A Gradle build is imported as a whole, from its outermost settings file.
+ */
+public class LazyProjectImporter {
+
+	private static final int MAX_DEPTH = 20;
+	private static final int BACKGROUND_BATCH_SIZE = 5;
+	private static final long BACKGROUND_DELAY = 5000L;
+	private static final List<String> GRADLE_SETTINGS = List.of(GradleProjectImporter.SETTINGS_GRADLE_DESCRIPTOR, GradleProjectImporter.SETTINGS_GRADLE_KTS_DESCRIPTOR);
+	private static final List<String> BUILD_FILES = List.of(IMavenConstants.POM_FILE_NAME, GradleProjectImporter.BUILD_GRADLE_DESCRIPTOR, GradleProjectImporter.BUILD_GRADLE_KTS_DESCRIPTOR,
+			GradleProjectImporter.SETTINGS_GRADLE_DESCRIPTOR, GradleProjectImporter.SETTINGS_GRADLE_KTS_DESCRIPTOR);
+
+	private final ProjectsManager projectsManager;
+	private final Map<IPath, List<IPath>> pendingBuildFiles = new HashMap<>();
+	private PomIndex pomIndex;
+	private long generation;
+
+	private final Job backgroundImportJob = new WorkspaceJob("Importing remaining projects...") {
+
+		@Override
+		public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+			Set<IPath> buildFiles = getNextBuildFiles(BACKGROUND_BATCH_SIZE);
+			if (buildFiles.isEmpty()) {
+				return Status.OK_STATUS;
+			}
+			try {
+				importBuildFiles(buildFiles, monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			}
+			if (hasPendingBuildFiles()) {
+				schedule(BACKGROUND_DELAY);
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return IConstants.JOBS_FAMILY.equals(family);
+		}
+	};
+
+	public LazyProjectImporter(ProjectsManager projectsManager) {
+		this.projectsManager = projectsManager;
+		backgroundImportJob.setPriority(Job.DECORATE);
+		backgroundImportJob.setSystem(true);
+		backgroundImportJob.setRule(ResourcesPlugin.getWorkspace().getRoot());
+	}
+
+	/**
+	 * Locates the Maven and Gradle build files under the given root paths.
+	 *
+	 * @return the build files of the projects already imported in the
+	 *         workspace, which are kept up to date as usual
+	 */
+	public Collection<IPath> discover(Collection<IPath> rootPaths, IProgressMonitor monitor) throws CoreException {
+		// the file system is scanned without holding the lock, the documents opened meanwhile wait for the import job
+		Set<IPath> projectLocations = getProjectLocations();
+		List<IPath> importedBuildFiles = new ArrayList<>();
+		Map<IPath, List<IPath>> discoveredBuildFiles = new HashMap<>();
+		for (IPath rootPath : rootPaths) {
+			BasicFileDetector detector = new BasicFileDetector(rootPath.toFile().toPath(), BUILD_FILES.toArray(String[]::new))
+					.includeNested(true)
+					.maxDepth(MAX_DEPTH)
+					.addExclusions("**/target");
+			for (Path directory : detector.scan(monitor)) {
+				IPath location = ResourceUtils.canonicalFilePathFromURI(directory.toUri().toString());
+				if (location == null) {
+					continue;
+				}
+				List<IPath> buildFiles = BUILD_FILES.stream().map(location::append).filter(file -> file.toFile().isFile()).collect(Collectors.toList());
+				if (projectLocations.contains(location)) {
+					importedBuildFiles.addAll(buildFiles);
+				} else if (!buildFiles.isEmpty()) {
+					discoveredBuildFiles.put(location, buildFiles);
+				}
+			}
+		}
+		synchronized (this) {
+			pendingBuildFiles.clear();
+			pendingBuildFiles.putAll(discoveredBuildFiles);
+			pomIndex = null;
+			generation++;
+		}
+		JavaLanguageServerPlugin.logInfo(String.format("Lazy import: %d projects already imported, %d build locations pending", importedBuildFiles.size(), discoveredBuildFiles.size()));
+		return importedBuildFiles;
+	}
+
+	/**
+	 * Starts importing the pending builds in the background, at a low priority.
+	 */
+	public void scheduleBackgroundImport() {
+		if (hasPendingBuildFiles()) {
+			backgroundImportJob.schedule(BACKGROUND_DELAY);
+		}
+	}
+
+	/**
+	 * @return whether some build files were located under the given root path
+	 */
+	public synchronized boolean hasBuildFiles(IPath rootPath) {
+		return pendingBuildFiles.keySet().stream().anyMatch(rootPath::isPrefixOf);
+	}
+
+	public synchronized boolean hasPendingBuildFiles() {
+		return !pendingBuildFiles.isEmpty();
+	}
+
+	/**
+	 * Imports the build containing the given document, if it was not imported
+	 * yet. The build files of the document are resolved by the returned job, so
+	 * that the caller (e.g. the handling of <code>didOpen</code>) isn't blocked
+	 * by reading the pending poms or by the discovery of the build files.
+	 *
+	 * @return the import job, doing nothing if the document doesn't belong to a
+	 *         pending build
+	 */
+	public Job importFor(String uri) {
+		Job job = new Job("Importing the project of " + uri.substring(uri.lastIndexOf('/') + 1)) {
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				IPath file = ResourceUtils.canonicalFilePathFromURI(uri);
+				if (file == null) {
+					return Status.OK_STATUS;
+				}
+				Set<IPath> buildFiles = getBuildFilesFor(file);
+				if (buildFiles.isEmpty() || monitor.isCanceled()) {
+					return Status.OK_STATUS;
+				}
+				try {
+					ResourcesPlugin.getWorkspace().run(m -> importBuildFiles(buildFiles, m), ResourcesPlugin.getWorkspace().getRoot(), IWorkspace.AVOID_UPDATE, monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (CoreException e) {
+					return e.getStatus();
+				}
+				return Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object family) {
+				return IConstants.JOBS_FAMILY.equals(family);
+			}
+		};
+		job.schedule();
+		return job;
+	}
+
+	/**
+	 * @return the pending build files to import so that the given file belongs
+	 *         to a project
+	 */
+	Set<IPath> getBuildFilesFor(IPath file) {
+		Set<IPath> buildFiles;
+		synchronized (this) {
+			buildFiles = getPendingBuildFilesFor(file);
+		}
+		IPath pom = buildFiles.stream().filter(buildFile -> IMavenConstants.POM_FILE_NAME.equals(buildFile.lastSegment())).findFirst().orElse(null);
+		if (pom != null) {
+			PomIndex index = getPomIndex();
+			synchronized (this) {
+				buildFiles.addAll(getUpstreamPoms(pom, index));
+			}
+		}
+		return buildFiles;
+	}
+
+	private Set<IPath> getPendingBuildFilesFor(IPath file) {
+		IPath location = null;
+		for (IPath parent = file.removeLastSegments(1); parent.segmentCount() > 0; parent = parent.removeLastSegments(1)) {
+			if (pendingBuildFiles.containsKey(parent)) {
+				location = parent;
+				break;
+			}
+		}
+		if (location == null) {
+			return new LinkedHashSet<>();
+		}
+		if (isGradleLocation(location)) {
+			// a Gradle build is imported from its outermost settings file
+			for (IPath parent = location; parent.segmentCount() > 0; parent = parent.removeLastSegments(1)) {
+				if (isGradleBuildRoot(parent)) {
+					location = parent;
+				}
+			}
+		}
+		return new LinkedHashSet<>(pendingBuildFiles.get(location));
+	}
+
+	private boolean isGradleLocation(IPath location) {
+		return pendingBuildFiles.get(location).stream().anyMatch(buildFile -> !IMavenConstants.POM_FILE_NAME.equals(buildFile.lastSegment()));
+	}
+
+	private boolean isGradleBuildRoot(IPath location) {
+		List<IPath> buildFiles = pendingBuildFiles.get(location);
+		return buildFiles != null && buildFiles.stream().anyMatch(buildFile -> GRADLE_SETTINGS.contains(buildFile.lastSegment()));
+	}
+
+	/**
+	 * @return the pending poms the given pom depends on, directly or not.
+	 *         Aggregators are left out, since importing them imports all their
+	 *         modules.
+	 */
+	private Set<IPath> getUpstreamPoms(IPath pom, PomIndex index) {
+		Set<IPath> upstream = new LinkedHashSet<>();
+		Deque<IPath> queue = new ArrayDeque<>();
+		queue.add(pom);
+		while (!queue.isEmpty()) {
+			for (String dependency : index.dependencies().getOrDefault(queue.poll(), Set.of())) {
+				IPath dependencyPom = index.poms().get(dependency);
+				if (dependencyPom != null && pendingBuildFiles.containsKey(dependencyPom.removeLastSegments(1)) && upstream.add(dependencyPom)) {
+					queue.add(dependencyPom);
+				}
+			}
+		}
+		upstream.remove(pom);
+		return upstream;
+	}
+
+	/**
+	 * @return the index of the pending poms, read without holding the lock
+	 */
+	private PomIndex getPomIndex() {
+		List<IPath> poms;
+		long readGeneration;
+		synchronized (this) {
+			if (pomIndex != null) {
+				return pomIndex;
+			}
+			poms = pendingBuildFiles.values().stream().flatMap(List::stream).filter(buildFile -> IMavenConstants.POM_FILE_NAME.equals(buildFile.lastSegment())).collect(Collectors.toList());
+			readGeneration = generation;
+		}
+		PomIndex index = PomIndex.read(poms);
+		synchronized (this) {
+			// the build files may have been discovered again meanwhile
+			if (readGeneration == generation) {
+				pomIndex = index;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * @return the next build files to import in the background, the deepest
+	 *         first so that aggregators come after their modules
+	 */
+	private Set<IPath> getNextBuildFiles(int count) {
+		List<IPath> firstBuildFiles;
+		synchronized (this) {
+			firstBuildFiles = pendingBuildFiles.entrySet().stream()
+					.sorted(Map.Entry.comparingByKey(Comparator.comparingInt(IPath::segmentCount).reversed().thenComparing(IPath::toString)))
+					.map(entry -> entry.getValue().get(0))
+					.collect(Collectors.toList());
+		}
+		Set<IPath> buildFiles = new LinkedHashSet<>();
+		for (IPath buildFile : firstBuildFiles) {
+			if (buildFiles.size() >= count) {
+				break;
+			}
+			buildFiles.addAll(getBuildFilesFor(buildFile));
+		}
+		return buildFiles;
+	}
+
+	private void importBuildFiles(Set<IPath> buildFiles, IProgressMonitor monitor) throws CoreException {
+		synchronized (this) {
+			// another job may have imported them in the meantime
+			buildFiles.removeIf(buildFile -> !pendingBuildFiles.containsKey(buildFile.removeLastSegments(1)));
+		}
+		if (buildFiles.isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		try {
+			projectsManager.importProjectsFromConfigurationFiles(JavaLanguageServerPlugin.getPreferencesManager().getPreferences().getRootPaths(), buildFiles, monitor);
+		} finally {
+			removeImported(buildFiles);
+		}
+		JavaLanguageServerPlugin.logInfo(String.format("Lazy import: imported %s in %dms", buildFiles, System.currentTimeMillis() - start));
+		List<URI> projectUris = buildFiles.stream()
+				.map(path -> {
+					IFile file = JDTUtils.findFile(path.toFile().toURI().toString());
+					return file == null ? null : file.getProject();
+				})
+				.filter(Objects::nonNull)
+				.distinct()
+				.map(project -> ProjectUtils.getProjectRealFolder(project).toFile().toURI())
+				.collect(Collectors.toList());
+		if (!projectUris.isEmpty() && projectsManager.client != null) {
+			EventNotification notification = new EventNotification().withType(EventType.ProjectsImported).withData(projectUris);
+			projectsManager.client.sendEventNotification(notification);
+		}
+	}
+
+	private synchronized void removeImported(Set<IPath> buildFiles) {
+		buildFiles.forEach(buildFile -> pendingBuildFiles.remove(buildFile.removeLastSegments(1)));
+		// the import of a build may have imported the nested projects too
+		Set<IPath> projectLocations = getProjectLocations();
+		pendingBuildFiles.keySet().removeIf(projectLocations::contains);
+	}
+
+	private static Set<IPath> getProjectLocations() {
+		Set<IPath> locations = new HashSet<>();
+		for (IProject project : ProjectUtils.getAllProjects()) {
+			if (!ProjectsManager.getDefaultProject().equals(project)) {
+				File folder = ProjectUtils.getProjectRealFolder(project).toFile();
+				IPath location = ResourceUtils.canonicalFilePathFromURI(folder.toURI().toString());
+				if (location != null) {
+					locations.add(location);
+				}
+			}
+		}
+		return locations;
+	}
+
+	/**
+	 * The pending poms by <code>groupId:artifactId</code>, aggregators excluded,
+	 * and the <code>groupId:artifactId</code> of the dependencies of each pom.
+	 */
+	private record PomIndex(Map<String, IPath> poms, Map<IPath, Set<String>> dependencies) {
+
+		static PomIndex read(Collection<IPath> pomFiles) {
+			Map<String, IPath> poms = new HashMap<>();
+			Map<IPath, Set<String>> dependencies = new HashMap<>();
+			for (IPath pomFile : pomFiles) {
+				try {
+					Model model = MavenPlugin.getMavenModelManager().readMavenModel(pomFile.toFile());
+					String groupId = MavenProjectImporter.getGroupId(model);
+					if (!"pom".equals(model.getPackaging())) {
+						poms.put(groupId + ":" + model.getArtifactId(), pomFile);
+					}
+					Set<String> pomDependencies = new HashSet<>();
+					for (Dependency dependency : model.getDependencies()) {
+						String dependencyGroupId = dependency.getGroupId();
+						if ("${project.groupId}".equals(dependencyGroupId) || "${pom.groupId}".equals(dependencyGroupId)) {
+							dependencyGroupId = groupId;
+						}
+						pomDependencies.add(dependencyGroupId + ":" + dependency.getArtifactId());
+					}
+					dependencies.put(pomFile, pomDependencies);
+				} catch (CoreException e) {
+					JavaLanguageServerPlugin.logException("Failed to read " + pomFile, e);
+				}
+			}
+			return new PomIndex(poms, dependencies);
+		}
+	}
+}
@@ -15,8 +15,10 @@ package org.eclipse.jdt.ls.core.internal.managers;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
@@ -87,6 +89,44 @@ public class MavenBuildSupport implements IBuildSupport {
 		}
 	}
 
+	/**
+	 * Updates the given projects in a single request, so that m2e refreshes
+	 * them in one pass instead of once per project. The new digests of the poms
+	 * are only kept once the request completed, so that the projects are updated
+	 * again next time if it was cancelled or failed.
+	 *
+	 * @return the number of updated projects
+	 */
+	public int update(Collection<IProject> projects, boolean force, IProgressMonitor monitor) throws CoreException {
+		Set<IProject> toUpdate = new LinkedHashSet<>();
+		Map<String, String> previousDigests = new HashMap<>();
+		for (IProject project : projects) {
+			if (applies(project)) {
+				Path pomPath = project.getFile("pom.xml").getLocation().toFile().toPath();
+				String previousDigest = digestStore.getDigest(pomPath.toString());
+				if (digestStore.updateDigest(pomPath) || force) {
+					toUpdate.add(project);
+					previousDigests.put(pomPath.toString(), previousDigest);
+				}
+			}
+		}
+		boolean updated = false;
+		try {
+			if (!toUpdate.isEmpty() && !monitor.isCanceled()) {
+				JavaLanguageServerPlugin.debugTrace("Starting Maven update for " + toUpdate.size() + " project(s)");
+				boolean updateSnapshots = JavaLanguageServerPlugin.getPreferencesManager() == null ? false : JavaLanguageServerPlugin.getPreferencesManager().getPreferences().isMavenUpdateSnapshots();
+				MavenUpdateRequest request = new MavenUpdateRequest(toUpdate, MavenPlugin.getMavenConfiguration().isOffline(), updateSnapshots);
+				configurationManager.updateProjectConfiguration(request, monitor);
+				updated = !monitor.isCanceled();
+			}
+		} finally {
+			if (!updated && !previousDigests.isEmpty()) {
+				digestStore.restoreDigests(previousDigests);
+			}
+		}
+		return updated ? toUpdate.size() : 0;
+	}
+
 	public void collectProjects(Collection<IProject> projects, IProject project, IProgressMonitor monitor) {
 		if (!project.isOpen() || !ProjectUtils.isMavenProject(project)) {
 			return;
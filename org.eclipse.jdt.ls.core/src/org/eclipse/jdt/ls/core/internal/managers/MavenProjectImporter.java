@@ -20,12 +20,16 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
 import org.eclipse.core.internal.resources.Workspace;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -69,6 +73,8 @@ public class MavenProjectImporter extends AbstractProjectImporter {
 
 	private static final long MAX_MEMORY = 1536 * 1024 * 1024; // 1.5g
 
+	private static final long SLOW_MODULE_THRESHOLD = 1000;
+
 	public static final String IMPORTING_MAVEN_PROJECTS = "Importing Maven project(s)";
 
 	public static final String POM_FILE = "pom.xml";
@@ -217,9 +223,12 @@ public class MavenProjectImporter extends AbstractProjectImporter {
 				// Ensure project name is unique when same artifactId
 				importConfig.setProjectNameTemplate(DUPLICATE_ARTIFACT_TEMPLATE);
 			}
+			// import the modules in dependency order, so that the modules a module depends on are configured first
+			List<List<MavenProjectInfo>> waves = getReactorWaves(toImport);
+			List<MavenProjectInfo> ordered = waves.stream().flatMap(List::stream).collect(Collectors.toList());
+			JavaLanguageServerPlugin.logInfo("Importing " + ordered.size() + " Maven project(s) in " + waves.size() + " reactor wave(s)");
 			if (toImport.size() > MAX_PROJECTS_TO_IMPORT && Runtime.getRuntime().maxMemory() <= MAX_MEMORY) {
-				JavaLanguageServerPlugin.logInfo("Projects size:" + toImport.size());
-				Iterator<MavenProjectInfo> iter = toImport.iterator();
+				Iterator<MavenProjectInfo> iter = ordered.iterator();
 				List<IMavenProjectImportResult> results = new ArrayList<>(MAX_PROJECTS_TO_IMPORT);
 				SubMonitor monitor2 = SubMonitor.convert(monitor, toImport.size() * 2);
 				int it = 1;
@@ -232,8 +241,10 @@ public class MavenProjectImporter extends AbstractProjectImporter {
 						importPartial.add(iter.next());
 					}
 					try {
+						long start = System.currentTimeMillis();
 						List<IMavenProjectImportResult> result = configurationManager.importProjects(importPartial, importConfig, monitor2.split(MAX_PROJECTS_TO_IMPORT));
 						results.addAll(result);
+						logConfigurationTime(importPartial.size(), System.currentTimeMillis() - start);
 					} catch (CoreException e) {
 						JavaLanguageServerPlugin.logException("Failed to import a batch of Maven projects", e);
 					}
@@ -248,7 +259,9 @@ public class MavenProjectImporter extends AbstractProjectImporter {
 				monitor2.done();
 			} else {
 				try {
-					configurationManager.importProjects(toImport, importConfig, subMonitor.split(75));
+					long start = System.currentTimeMillis();
+					configurationManager.importProjects(ordered, importConfig, subMonitor.split(75));
+					logConfigurationTime(ordered.size(), System.currentTimeMillis() - start);
 				} catch (CoreException e) {
 					JavaLanguageServerPlugin.logException("Failed to configure some Maven project(s)", e);
 				}
@@ -307,12 +320,17 @@ public class MavenProjectImporter extends AbstractProjectImporter {
 				iterator.remove();
 				continue;
 			}
+			long start = System.currentTimeMillis();
 			if (Platform.OS_WIN32.equals(Platform.getOS())) {
 				project.refreshLocal(IResource.DEPTH_ONE, monitor);
 				((Workspace) ResourcesPlugin.getWorkspace()).getRefreshManager().refresh(project);
 			} else {
 				project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
 			}
+			long elapsed = System.currentTimeMillis() - start;
+			if (elapsed > SLOW_MODULE_THRESHOLD) {
+				JavaLanguageServerPlugin.logInfo("Refreshing Maven project " + project.getName() + " took " + elapsed + "ms");
+			}
 		}
 		if (projects.isEmpty()) {
 			return;
@@ -322,16 +340,91 @@ public class MavenProjectImporter extends AbstractProjectImporter {
 			@Override
 			public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
 				MavenBuildSupport mavenBuildSupport = new MavenBuildSupport();
-				mavenBuildSupport.setShouldCollectProjects(false);
-				for (IProject project : projects) {
-					if (monitor.isCanceled()) {
-						return Status.CANCEL_STATUS;
+				long start = System.currentTimeMillis();
+				// update the projects in one request, so that m2e refreshes them in a single pass
+				int updated = mavenBuildSupport.update(projects, false, monitor);
+				JavaLanguageServerPlugin.logInfo("Updated " + updated + " Maven project(s) in " + (System.currentTimeMillis() - start) + "ms");
+				return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			}
+		}.schedule();
+	}
+
+	/**
+	 * Logs the time m2e took to configure a batch of projects. m2e configures
+	 * the projects of a batch together, so only the average time per project is
+	 * known.
+	 */
+	private static void logConfigurationTime(int count, long elapsed) {
+		JavaLanguageServerPlugin.logInfo(String.format("Configured %d Maven project(s) in %dms (%dms per project on average)", count, elapsed, elapsed / Math.max(1, count)));
+	}
+
+	/**
+	 * Splits the given Maven projects in waves: the projects of a wave only
+	 * depend on (or inherit from) projects of the previous waves, so the
+	 * projects of a wave are independent from each other. Dependencies on
+	 * artifacts which are not part of the given projects are ignored, and
+	 * projects in a dependency cycle are put in the last wave.
+	 */
+	static List<List<MavenProjectInfo>> getReactorWaves(Collection<MavenProjectInfo> projects) {
+		Map<String, MavenProjectInfo> modules = new LinkedHashMap<>();
+		for (MavenProjectInfo project : projects) {
+			modules.putIfAbsent(getModuleKey(project), project);
+		}
+		Map<MavenProjectInfo, Set<MavenProjectInfo>> dependencies = new LinkedHashMap<>();
+		for (MavenProjectInfo project : projects) {
+			Set<MavenProjectInfo> upstream = new LinkedHashSet<>();
+			Model model = project.getModel();
+			if (model != null) {
+				if (model.getParent() != null) {
+					upstream.add(modules.get(model.getParent().getGroupId() + ":" + model.getParent().getArtifactId()));
+				}
+				for (Dependency dependency : model.getDependencies()) {
+					String groupId = dependency.getGroupId();
+					if ("${project.groupId}".equals(groupId) || "${pom.groupId}".equals(groupId)) {
+						groupId = getGroupId(model);
 					}
-					mavenBuildSupport.update(project, false, monitor);
+					upstream.add(modules.get(groupId + ":" + dependency.getArtifactId()));
 				}
-				return Status.OK_STATUS;
 			}
-		}.schedule();
+			upstream.remove(null);
+			upstream.remove(project);
+			dependencies.put(project, upstream);
+		}
+
+		List<List<MavenProjectInfo>> waves = new ArrayList<>();
+		Set<MavenProjectInfo> configured = new HashSet<>();
+		while (!dependencies.isEmpty()) {
+			List<MavenProjectInfo> wave = new ArrayList<>();
+			for (Map.Entry<MavenProjectInfo, Set<MavenProjectInfo>> entry : dependencies.entrySet()) {
+				if (configured.containsAll(entry.getValue())) {
+					wave.add(entry.getKey());
+				}
+			}
+			if (wave.isEmpty()) {
+				// dependency cycle
+				wave.addAll(dependencies.keySet());
+			}
+			wave.forEach(dependencies::remove);
+			configured.addAll(wave);
+			waves.add(wave);
+		}
+		return waves;
+	}
+
+	private static String getModuleKey(MavenProjectInfo project) {
+		Model model = project.getModel();
+		if (model == null) {
+			return project.getLabel();
+		}
+		return getGroupId(model) + ":" + model.getArtifactId();
+	}
+
+	static String getGroupId(Model model) {
+		String groupId = model.getGroupId();
+		if (groupId == null && model.getParent() != null) {
+			groupId = model.getParent().getGroupId();
+		}
+		return groupId;
 	}
 
 	private boolean needsMavenUpdate(IResource pomFile, long lastWorkspaceStateSaved) {
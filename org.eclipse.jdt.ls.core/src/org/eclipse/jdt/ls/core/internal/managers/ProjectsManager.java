@@ -77,6 +77,7 @@ import org.eclipse.jdt.ls.core.internal.EventNotification;
 import org.eclipse.jdt.ls.core.internal.EventType;
 import org.eclipse.jdt.ls.core.internal.IConstants;
 import org.eclipse.jdt.ls.core.internal.IProjectImporter;
+import org.eclipse.jdt.ls.core.internal.InteractiveRequests;
 import org.eclipse.jdt.ls.core.internal.JDTEnvironmentUtils;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection.JavaLanguageClient;
@@ -85,6 +86,7 @@ import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.ServiceStatus;
+import org.eclipse.jdt.ls.core.internal.StartupTimeline;
 import org.eclipse.jdt.ls.core.internal.StatusFactory;
 import org.eclipse.jdt.ls.core.internal.handlers.BaseInitHandler;
 import org.eclipse.jdt.ls.core.internal.handlers.ProjectEncodingMode;
@@ -94,6 +96,7 @@ import org.eclipse.lsp4j.PublishDiagnosticsParams;
 public abstract class ProjectsManager implements ISaveParticipant, IProjectsManager {
 
 	public static final String DEFAULT_PROJECT_NAME = "jdt.ls-java-project";
+	private static final String FAST_START_ROOT_PATHS_KEY = "fastStart.rootPaths";
 	public static final String PROJECTS_IMPORTED = "__PROJECTS_IMPORTED__";
 	private static final String CORE_RESOURCES_MATCHER_ID = "org.eclipse.core.resources.regexFilterMatcher";
 	public static final String CREATED_BY_JAVA_LANGUAGE_SERVER = "__CREATED_BY_JAVA_LANGUAGE_SERVER__";
@@ -102,6 +105,8 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 
 	private PreferenceManager preferenceManager;
 	protected JavaLanguageClient client;
+	private final LazyProjectImporter lazyImporter = new LazyProjectImporter(this);
+	private volatile boolean verifyingProjects;
 
 	public enum CHANGE_TYPE {
 		CREATED, CHANGED, DELETED
@@ -121,7 +126,9 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 				ProjectsManager.cleanupResources(ProjectsManager.getDefaultProject());
 			}
 			Collection<IPath> projectConfigurations = preferenceManager.getPreferences().getProjectConfigurations();
-			if (projectConfigurations == null) {
+			if (projectConfigurations == null && preferenceManager.getPreferences().isImportLazyEnabled()) {
+				importProjectsLazily(rootPaths, subMonitor.split(70));
+			} else if (projectConfigurations == null) {
 				// old way to import project
 				importProjects(rootPaths, subMonitor.split(70));
 			} else {
@@ -129,10 +136,104 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 			}
 			updateEncoding(monitor);
 			reportProjectsStatus();
+			recordRootPaths(rootPaths);
 			subMonitor.done();
 		}
 	}
 
+	/**
+	 * @return whether the workspace saved by the previous session can be served
+	 *         right away, i.e. whether fast start is enabled, the root paths
+	 *         are the ones the workspace was initialized with, and all the
+	 *         projects still exist
+	 */
+	public boolean canFastStart(Collection<IPath> rootPaths) {
+		if (!preferenceManager.getPreferences().isImportFastStartEnabled() || preferenceManager.getClientPreferences().skipProjectConfiguration() || preferenceManager.getPreferences().getProjectConfigurations() != null) {
+			return false;
+		}
+		if (!Objects.equals(getRootPathsKey(rootPaths), JavaLanguageServerPlugin.getDigestStore().getDigest(FAST_START_ROOT_PATHS_KEY))) {
+			return false;
+		}
+		boolean hasProjects = false;
+		for (IProject project : ProjectUtils.getAllProjects()) {
+			if (DEFAULT_PROJECT_NAME.equals(project.getName())) {
+				continue;
+			}
+			IPath location = ProjectUtils.getProjectRealFolder(project);
+			if (!project.isAccessible() || location == null || !location.toFile().isDirectory()) {
+				return false;
+			}
+			hasProjects = true;
+		}
+		return hasProjects;
+	}
+
+	/**
+	 * @return whether the projects restored from the previous session are being
+	 *         verified, see {@link #verifyProjects(Collection, IProgressMonitor)}
+	 */
+	public boolean isVerifyingProjects() {
+		return verifyingProjects;
+	}
+
+	/**
+	 * Marks the projects restored from the previous session as being verified,
+	 * until {@link #verifyProjects(Collection, IProgressMonitor)} completes.
+	 * Meanwhile, {@link #projectsImported(IProgressMonitor)} is deferred to the
+	 * end of the verification, the client being notified of each project as
+	 * soon as it's verified.
+	 */
+	public void setVerifyingProjects(boolean verifyingProjects) {
+		this.verifyingProjects = verifyingProjects;
+	}
+
+	/**
+	 * Verifies the projects restored from the previous session: each project is
+	 * refreshed, and updated if its build files changed (the build supports
+	 * compare them with their recorded digests). The client is notified as
+	 * soon as a project is verified. The builds added under the root paths
+	 * since the previous session are imported in the background.
+	 */
+	public void verifyProjects(Collection<IPath> rootPaths, IProgressMonitor monitor) throws CoreException, OperationCanceledException {
+		verifyingProjects = true;
+		IProject[] projects = ProjectUtils.getAllProjects();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, projects.length * 10 + 10);
+		long start = System.currentTimeMillis();
+		try {
+			for (IProject project : projects) {
+				subMonitor.checkCanceled();
+				// between two workspace operations, holding no lock
+				InteractiveRequests.yieldToInteractive(subMonitor);
+				if (DEFAULT_PROJECT_NAME.equals(project.getName()) || !project.isAccessible()) {
+					subMonitor.worked(10);
+					continue;
+				}
+				ResourcesPlugin.getWorkspace().run(m -> verifyProject(project, m), null, 0, subMonitor.split(10));
+				IPath location = ProjectUtils.getProjectRealFolder(project);
+				if (client != null && location != null) {
+					client.sendEventNotification(new EventNotification().withType(EventType.ProjectsImported).withData(List.of(location.toFile().toURI())));
+				}
+			}
+			lazyImporter.discover(rootPaths, subMonitor.split(10));
+			lazyImporter.scheduleBackgroundImport();
+			updateEncoding(monitor);
+		} finally {
+			verifyingProjects = false;
+			// the deferred notifications are due even when the verification failed
+			projectsImported(monitor);
+			reportProjectsStatus();
+		}
+		JavaLanguageServerPlugin.logInfo(String.format("Verified %d projects in %dms", projects.length, System.currentTimeMillis() - start));
+	}
+
+	private void recordRootPaths(Collection<IPath> rootPaths) {
+		JavaLanguageServerPlugin.getDigestStore().setDigest(FAST_START_ROOT_PATHS_KEY, getRootPathsKey(rootPaths));
+	}
+
+	private static String getRootPathsKey(Collection<IPath> rootPaths) {
+		return rootPaths.stream().map(IPath::toPortableString).sorted().collect(Collectors.joining("\n"));
+	}
+
 	private void updateEncoding(IProgressMonitor monitor) throws CoreException {
 		if (preferenceManager != null && ProjectEncodingMode.SETDEFAULT.equals(preferenceManager.getPreferences().getProjectEncoding())) {
 			IWorkspace workspace = ResourcesPlugin.getWorkspace();
@@ -152,6 +253,30 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 		}
 	}
 
+	/**
+	 * Only refreshes the Maven and Gradle projects already imported, the other
+	 * ones being imported on demand by the {@link LazyProjectImporter}. The
+	 * root paths without any Maven or Gradle build are imported as usual.
+	 */
+	private void importProjectsLazily(Collection<IPath> rootPaths, IProgressMonitor monitor) throws CoreException, OperationCanceledException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
+		Collection<IPath> importedBuildFiles = lazyImporter.discover(rootPaths, subMonitor.split(20));
+		List<IPath> otherRootPaths = rootPaths.stream()
+				.filter(rootPath -> !lazyImporter.hasBuildFiles(rootPath) && importedBuildFiles.stream().noneMatch(rootPath::isPrefixOf))
+				.collect(Collectors.toList());
+		if (!otherRootPaths.isEmpty()) {
+			importProjects(otherRootPaths, subMonitor.split(40));
+		}
+		if (!importedBuildFiles.isEmpty()) {
+			importProjectsFromConfigurationFiles(rootPaths, importedBuildFiles, subMonitor.split(40));
+		}
+		lazyImporter.scheduleBackgroundImport();
+	}
+
+	public LazyProjectImporter getLazyImporter() {
+		return lazyImporter;
+	}
+
 	protected void importProjects(Collection<IPath> rootPaths, IProgressMonitor monitor) throws CoreException, OperationCanceledException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, rootPaths.size() * 100);
 		MultiStatus importStatusCollection = new MultiStatus(IConstants.PLUGIN_ID, -1, "Failed to import projects", null);
@@ -165,8 +290,14 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 				try {
 					for (IProjectImporter importer : importers()) {
 						importer.initialize(rootFolder);
-						if (importer.applies(subMonitor.split(1))) {
-							importer.importToWorkspace(subMonitor.split(70));
+						boolean applies;
+						try (StartupTimeline.Span span = StartupTimeline.begin(importer.getClass().getSimpleName() + ".applies", "import")) {
+							applies = importer.applies(subMonitor.split(1));
+						}
+						if (applies) {
+							try (StartupTimeline.Span span = StartupTimeline.begin(importer.getClass().getSimpleName() + ".importToWorkspace", "import")) {
+								importer.importToWorkspace(subMonitor.split(70));
+							}
 							if (importer.isResolved(rootFolder)) {
 								break;
 							}
@@ -197,8 +328,14 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 			try {
 				for (IProjectImporter importer : importers()) {
 					importer.initialize(rootFolder);
-					if (importer.applies(buildFiles, subMonitor.split(1))) {
-						importer.importToWorkspace(subMonitor.split(70));
+					boolean applies;
+					try (StartupTimeline.Span span = StartupTimeline.begin(importer.getClass().getSimpleName() + ".applies", "import")) {
+						applies = importer.applies(buildFiles, subMonitor.split(1));
+					}
+					if (applies) {
+						try (StartupTimeline.Span span = StartupTimeline.begin(importer.getClass().getSimpleName() + ".importToWorkspace", "import")) {
+							importer.importToWorkspace(subMonitor.split(70));
+						}
 						buildFiles = removeImportedConfigurations(buildFiles, importer);
 					}
 				}
@@ -729,7 +866,20 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 		}
 	}
 
-	class UpdateProjectsWorkspaceJob extends WorkspaceJob {
+	private void verifyProject(IProject project, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 10);
+		project.refreshLocal(IResource.DEPTH_INFINITE, subMonitor.split(2));
+		Optional<IBuildSupport> buildSupport = getBuildSupport(project);
+		if (buildSupport.isPresent() && !ProjectUtils.isInternalBuildSupport(buildSupport.get())) {
+			buildSupport.get().update(project, false, subMonitor.split(8));
+		}
+	}
+
+	/**
+	 * Updates the given projects, each one in its own workspace operation, so
+	 * that the job can yield to the interactive requests in between.
+	 */
+	class UpdateProjectsWorkspaceJob extends Job {
 
 		private final Collection<IProject> projects;
 		private final boolean force;
@@ -746,28 +896,36 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 		}
 
 		@Override
-		public IStatus runInWorkspace(IProgressMonitor monitor) {
+		public IStatus run(IProgressMonitor monitor) {
 			long start = System.currentTimeMillis();
 			MultiStatus status = new MultiStatus(IConstants.PLUGIN_ID, 0, "Update project configurations");
-			for (Entry<IBuildSupport, List<IProject>> entry : groupByBuildSupport(projects).entrySet()) {
-				IStatus onWillUpdateStatus = onWillConfigurationUpdate(entry.getKey(),
-						entry.getValue(), monitor);
-
-				// if onWillUpdate() failed, skip updating the projects.
-				if (!onWillUpdateStatus.isOK()) {
-					status.add(onWillUpdateStatus);
-					continue;
-				}
+			IWorkspace workspace = ResourcesPlugin.getWorkspace();
+			try {
+				for (Entry<IBuildSupport, List<IProject>> entry : groupByBuildSupport(projects).entrySet()) {
+					MultiStatus onWillUpdateStatus = new MultiStatus(IConstants.PLUGIN_ID, 0, "Prepare the update of project configurations");
+					workspace.run(m -> onWillUpdateStatus.add(onWillConfigurationUpdate(entry.getKey(), entry.getValue(), m)), null, 0, monitor);
+
+					// if onWillUpdate() failed, skip updating the projects.
+					if (!onWillUpdateStatus.isOK()) {
+						status.addAll(onWillUpdateStatus);
+						continue;
+					}
 
-				for (IProject project : entry.getValue()) {
-					if (monitor.isCanceled()) {
-						return Status.CANCEL_STATUS;
+					for (IProject project : entry.getValue()) {
+						if (monitor.isCanceled()) {
+							return Status.CANCEL_STATUS;
+						}
+						InteractiveRequests.yieldToInteractive(monitor);
+						workspace.run(m -> updateProject(entry.getKey(), project, force, status, m), null, 0, monitor);
 					}
-					updateProject(entry.getKey(), project, force, status, monitor);
 				}
-			}
 
-			onDidConfigurationUpdated(status, monitor);
+				workspace.run(m -> onDidConfigurationUpdated(status, m), null, 0, monitor);
+			} catch (CoreException e) {
+				status.add(e.getStatus());
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			}
 			long elapsed = System.currentTimeMillis() - start;
 			JavaLanguageServerPlugin.logInfo("Projects updated in " + elapsed + " ms");
 			return status;
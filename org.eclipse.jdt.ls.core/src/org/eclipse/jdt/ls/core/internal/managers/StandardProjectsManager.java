@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,8 @@ import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ISaveContext;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.resources.WorkspaceJob;
@@ -96,7 +99,6 @@ import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences.FeatureStatus;
 import org.eclipse.lsp4j.Command;
-import org.eclipse.lsp4j.DidChangeWatchedFilesRegistrationOptions;
 import org.eclipse.lsp4j.FileSystemWatcher;
 import org.eclipse.lsp4j.MessageType;
 import org.eclipse.lsp4j.RelativePattern;
@@ -108,7 +110,7 @@ import org.xml.sax.InputSource;
 public class StandardProjectsManager extends ProjectsManager {
 	private final static String FORMATTER_OPTION_PREFIX = JavaCore.PLUGIN_ID + ".formatter"; //$NON-NLS-1$
 	protected static final String BUILD_SUPPORT_EXTENSION_POINT_ID = "buildSupport";
-	private static final Set<Either<String, RelativePattern>> watchers = new LinkedHashSet<>();
+	private static final FileWatcherPlanner watcherPlanner = new FileWatcherPlanner();
 	private PreferenceManager preferenceManager;
 	private boolean buildFinished;
 	private boolean shouldUpdateProjects;
@@ -200,6 +202,49 @@ public class StandardProjectsManager extends ProjectsManager {
 
 	@Override
 	public void fileChanged(String uriString, CHANGE_TYPE changeType) {
+		fileChanged(uriString, changeType, null);
+	}
+
+	/**
+	 * Handles the changes grouped by project, in a single workspace operation
+	 * so that the resource changes are notified once. The configuration of
+	 * each project is updated at most once, after all the changes are handled.
+	 */
+	@Override
+	public void filesChanged(Map<String, CHANGE_TYPE> changes) {
+		if (changes.size() <= 1) {
+			changes.forEach(this::fileChanged);
+			return;
+		}
+		Map<IProject, Map<String, CHANGE_TYPE>> changesPerProject = new LinkedHashMap<>();
+		for (Map.Entry<String, CHANGE_TYPE> change : changes.entrySet()) {
+			IResource resource = JDTUtils.getFileOrFolder(change.getKey());
+			IProject project = resource == null ? null : resource.getProject();
+			changesPerProject.computeIfAbsent(project, p -> new LinkedHashMap<>()).put(change.getKey(), change.getValue());
+		}
+		Set<IProject> projectsToUpdate = new LinkedHashSet<>();
+		try {
+			ResourcesPlugin.getWorkspace().run((IWorkspaceRunnable) monitor -> {
+				for (Map<String, CHANGE_TYPE> projectChanges : changesPerProject.values()) {
+					projectChanges.forEach((uri, changeType) -> fileChanged(uri, changeType, projectsToUpdate));
+				}
+			}, null, IWorkspace.AVOID_UPDATE, new NullProgressMonitor());
+		} catch (CoreException e) {
+			JavaLanguageServerPlugin.logException("Problem refreshing workspace", e);
+		}
+		if (projectsToUpdate.size() == 1) {
+			updateProject(projectsToUpdate.iterator().next(), true);
+		} else if (!projectsToUpdate.isEmpty()) {
+			updateProjects(projectsToUpdate, true);
+		}
+	}
+
+	/**
+	 * @param projectsToUpdate
+	 *            collects the projects whose configuration must be updated, or
+	 *            <code>null</code> to update them right away
+	 */
+	private void fileChanged(String uriString, CHANGE_TYPE changeType, Set<IProject> projectsToUpdate) {
 		if (uriString == null) {
 			return;
 		}
@@ -275,7 +320,7 @@ public class StandardProjectsManager extends ProjectsManager {
 									if (gradleBuild instanceof DefaultGradleBuild defaultGradleBuild) {
 										org.eclipse.buildship.core.internal.configuration.BuildConfiguration gradleConfig = defaultGradleBuild.getBuildConfig();
 										if (!gradleConfig.isAutoSync()) {
-											updateProject(project, true);
+											updateProject(project, true, projectsToUpdate);
 											syncAnnotationProcessing = false;
 										}
 									}
@@ -285,7 +330,7 @@ public class StandardProjectsManager extends ProjectsManager {
 								}
 								return;
 							}
-							updateProject(project, true);
+							updateProject(project, true, projectsToUpdate);
 							break;
 						case disabled:
 							appendBuildFileMarker(resource);
@@ -311,6 +356,14 @@ public class StandardProjectsManager extends ProjectsManager {
 		}
 	}
 
+	private void updateProject(IProject project, boolean force, Set<IProject> projectsToUpdate) {
+		if (projectsToUpdate == null) {
+			updateProject(project, force);
+		} else {
+			projectsToUpdate.add(project);
+		}
+	}
+
 	private void appendBuildFileMarker(IResource resource) throws CoreException {
 		IMarker[] markers = resource.findMarkers(BUILD_FILE_MARKER_TYPE, false, IResource.DEPTH_ZERO);
 		if (markers.length > 0) {
@@ -558,26 +611,31 @@ public class StandardProjectsManager extends ProjectsManager {
 				fileWatchers.add(watcher);
 			}
 			// Watch on project root folders.
+			Map<String, IPath> roots = new LinkedHashMap<>();
 			for (IProject project : projects) {
 				if (ProjectUtils.isVisibleProject(project) && project.exists()) {
 					FileSystemWatcher watcher = new FileSystemWatcher(ResourceUtils.toGlobPattern(project.getLocation(), false), WatchKind.Delete);
 					fileWatchers.add(watcher);
 				}
+				if (project.exists() && !DEFAULT_PROJECT_NAME.equals(project.getName())) {
+					roots.put(project.getName(), ProjectUtils.getProjectRealFolder(project));
+				}
 			}
 
-			if (!patterns.equals(watchers)) {
-				logInfo(">> registerFeature 'workspace/didChangeWatchedFiles'");
-				DidChangeWatchedFilesRegistrationOptions didChangeWatchedFilesRegistrationOptions = new DidChangeWatchedFilesRegistrationOptions(fileWatchers);
-				JavaLanguageServerPlugin.getInstance().unregisterCapability(Preferences.WORKSPACE_WATCHED_FILES_ID, Preferences.WORKSPACE_WATCHED_FILES);
-				JavaLanguageServerPlugin.getInstance().registerCapability(Preferences.WORKSPACE_WATCHED_FILES_ID, Preferences.WORKSPACE_WATCHED_FILES, didChangeWatchedFilesRegistrationOptions);
-				watchers.clear();
-				watchers.addAll(patterns);
-			}
+			fileWatchers = FileWatcherPlanner.compress(fileWatchers);
+			watcherPlanner.register(fileWatchers, roots);
 			return fileWatchers;
 		}
 		return Collections.emptyList();
 	}
 
+	/**
+	 * @return the number of file patterns watched by the client
+	 */
+	public static int getWatchedPatternCount() {
+		return watcherPlanner.getActivePatternCount();
+	}
+
 	private List<URI> getURIs(String url) {
 		if (url == null || url.isBlank()) {
 			return Collections.emptyList();
@@ -687,6 +745,10 @@ public class StandardProjectsManager extends ProjectsManager {
 
 	@Override
 	public void projectsImported(IProgressMonitor monitor) {
+		// the supported frameworks only apply to Gradle projects, don't load them (and the Gradle support) otherwise
+		if (ProjectUtils.getGradleProjects().isEmpty()) {
+			return;
+		}
 		// TODO: consider to register as a extension point once we have multiple frameworks to support.
 		IFrameworkSupport protobufSupport = new ProtobufSupport();
 		protobufSupport.onDidProjectsImported(monitor);
@@ -13,6 +13,7 @@
 package org.eclipse.jdt.ls.core.internal.managers;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,9 +33,12 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.ls.core.internal.InteractiveRequests;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection.JavaLanguageClient;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
+import org.eclipse.jdt.ls.core.internal.handlers.ClientLogDispatcher;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 
 import com.google.gson.JsonArray;
@@ -44,6 +48,7 @@ import com.google.gson.JsonPrimitive;
 public class TelemetryManager {
 
 	private static final String JAVA_PROJECT_BUILD = "java.workspace.initialized";
+	private static final String JAVA_INTERACTIVE_SCHEDULING = "java.interactive.scheduling";
 
 	private JavaLanguageClient client;
 	private PreferenceManager prefs;
@@ -183,6 +188,13 @@ public class TelemetryManager {
 		properties.addProperty("time.buildFinished", Long.toString(buildFinishedElapsedTime));
 		properties.addProperty("initialization.first", Boolean.toString(this.firstTimeInitialization));
 
+		Map<Path, Long> gradleSyncDurations = GradleBuildScheduler.getLastSyncDurations();
+		if (!gradleSyncDurations.isEmpty()) {
+			properties.addProperty("gradle.sync.count", Integer.toString(gradleSyncDurations.size()));
+			properties.addProperty("gradle.sync.time.total", Long.toString(gradleSyncDurations.values().stream().reduce(0l, Long::sum)));
+			properties.addProperty("gradle.sync.time.max", Long.toString(Collections.max(gradleSyncDurations.values())));
+		}
+
 		Map<IPath, Long> deps = computeDependencySize();
 		int indexCount = deps.size();
 		long librarySize = deps.values().stream().reduce(0l, Long::sum);
@@ -192,6 +204,29 @@ public class TelemetryManager {
 		telemetryEvent(JAVA_PROJECT_BUILD, properties);
 	}
 
+	public void onShutdown() {
+		InteractiveRequests.Statistics statistics = InteractiveRequests.getStatistics();
+		JavaLanguageServerPlugin.logInfo(String.format("Interactive requests waited %dms on average (max %dms, %d waits), background jobs yielded %d times for %dms", statistics.averageWaitTime(), statistics.maxWaitTime(),
+				statistics.waitCount(), statistics.yieldCount(), statistics.yieldTime()));
+		JavaLanguageServerPlugin plugin = JavaLanguageServerPlugin.getInstance();
+		ClientLogDispatcher logDispatcher = plugin == null || plugin.getLogHandler() == null ? null : plugin.getLogHandler().getClientLogDispatcher();
+		if (logDispatcher != null) {
+			JavaLanguageServerPlugin.logInfo(String.format("Sent %d log messages to the client, %d repeated messages were summarized, %d messages were dropped", logDispatcher.getSentCount(), logDispatcher.getSummarizedCount(),
+					logDispatcher.getDroppedCount()));
+		}
+		if (prefs == null || client == null || statistics.waitCount() == 0) {
+			return;
+		}
+		JsonObject properties = new JsonObject();
+		properties.addProperty("yieldToInteractive", Boolean.toString(statistics.yieldEnabled()));
+		properties.addProperty("interactive.wait.count", Long.toString(statistics.waitCount()));
+		properties.addProperty("interactive.wait.time.avg", Long.toString(statistics.averageWaitTime()));
+		properties.addProperty("interactive.wait.time.max", Long.toString(statistics.maxWaitTime()));
+		properties.addProperty("background.yield.count", Long.toString(statistics.yieldCount()));
+		properties.addProperty("background.yield.time", Long.toString(statistics.yieldTime()));
+		telemetryEvent(JAVA_INTERACTIVE_SCHEDULING, properties);
+	}
+
 	/**
 	 * The total size (in bytes) of all dependencies in the workspace
 	 * This should correspond to the total size of dependencies used by a
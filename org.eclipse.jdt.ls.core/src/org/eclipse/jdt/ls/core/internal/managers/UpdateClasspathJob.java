@@ -12,42 +12,52 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.managers;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.ls.core.internal.InteractiveRequests;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
+import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager.CHANGE_TYPE;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences.ReferencedLibraries;
 
 /**
  * Job updating project classpath to match content of library folders.
+ *
+ * The libraries resolved for each project are kept, so that the changes
+ * reported for single files are applied to them instead of scanning the
+ * library folders again. Each project is updated in its own workspace
+ * operation, the job yielding to the interactive requests in between.
  */
-public class UpdateClasspathJob extends WorkspaceJob {
+public class UpdateClasspathJob extends Job {
 
 	private static final long SCHEDULE_DELAY = 1000L;
 
 	private final Set<UpdateClasspathRequest> queue = new LinkedHashSet<>();
 
+	private final Map<IJavaProject, ResolvedLibraries> resolvedLibraries = new HashMap<>();
+
 	private static final UpdateClasspathJob instance = new UpdateClasspathJob();
 
 	UpdateClasspathJob() {
@@ -55,31 +65,30 @@ public class UpdateClasspathJob extends WorkspaceJob {
 	}
 
 	@Override
-	public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+	public IStatus run(IProgressMonitor monitor) {
 		final List<UpdateClasspathRequest> requests;
 		synchronized (this.queue) {
 			requests = new ArrayList<>(this.queue);
 			this.queue.clear();
 		}
-		Map<IJavaProject, UpdateClasspathRequest> mergedRequestPerProject = requests.stream().collect(
-			Collectors.groupingBy(UpdateClasspathRequest::getProject,
-				Collectors.reducing(new UpdateClasspathRequest(), (mergedRequest, request) -> {
-					mergedRequest.setProject(request.getProject());
-					mergedRequest.getInclude().addAll(request.getInclude());
-					mergedRequest.getExclude().addAll(request.getExclude());
-					mergedRequest.getSources().putAll(request.getSources());
-					return mergedRequest;
-				})
-			)
-		);
+		Map<IJavaProject, UpdateClasspathRequest> mergedRequestPerProject = new LinkedHashMap<>();
+		for (UpdateClasspathRequest request : requests) {
+			mergedRequestPerProject.merge(request.getProject(), request, UpdateClasspathRequest::merge);
+		}
+		resolvedLibraries.keySet().removeIf(project -> !project.exists());
 		for (Map.Entry<IJavaProject, UpdateClasspathRequest> entry : mergedRequestPerProject.entrySet()) {
 			if (monitor.isCanceled()) {
 				return Status.CANCEL_STATUS;
 			}
+			InteractiveRequests.yieldToInteractive(monitor);
 			if (entry.getValue() != null) {
 				final IJavaProject project = entry.getKey();
 				final UpdateClasspathRequest request = entry.getValue();
-				doUpdateClasspath(project, request.include, request.exclude, request.sources, monitor);
+				try {
+					ResourcesPlugin.getWorkspace().run(m -> doUpdateClasspath(project, request.include, request.exclude, request.sources, request.changes, m), null, 0, monitor);
+				} catch (CoreException e) {
+					return e.getStatus();
+				}
 			}
 		}
 		synchronized (queue) {
@@ -90,10 +99,8 @@ public class UpdateClasspathJob extends WorkspaceJob {
 		return Status.OK_STATUS;
 	}
 
-	private void doUpdateClasspath(IJavaProject javaProject, Set<String> include, Set<String> exclude, Map<String, String> sources, IProgressMonitor monitor) throws CoreException {
-		JavaLanguageServerPlugin.logInfo(">> Updating classpath for project " + javaProject.getElementName());
+	private void doUpdateClasspath(IJavaProject javaProject, Set<String> include, Set<String> exclude, Map<String, String> sources, Map<Path, CHANGE_TYPE> changes, IProgressMonitor monitor) throws CoreException {
 		final IPath realFolder = ProjectUtils.getProjectRealFolder(javaProject.getProject());
-		final Set<Path> binaries = ProjectUtils.collectBinaries(realFolder, include, exclude, monitor);
 		final Map<Path, IPath> expandedSources = new HashMap<>();
 		for (final Map.Entry<String, String> entry: sources.entrySet()) { // Expand sources to absolute path
 			final Path realFolderPath = realFolder.toFile().toPath();
@@ -101,7 +108,20 @@ public class UpdateClasspathJob extends WorkspaceJob {
 			final Path source = realFolderPath.resolve(entry.getValue());
 			expandedSources.put(binary, new org.eclipse.core.runtime.Path(source.toString()));
 		}
-		final Map<Path, IPath> libraries = new HashMap<>();
+		ResolvedLibraries resolved = resolvedLibraries.get(javaProject);
+		if (changes != null && resolved != null && resolved.matches(include, exclude, sources)) {
+			Map<Path, IPath> libraries = new LinkedHashMap<>(resolved.libraries());
+			Set<Path> changedBinaries = applyChanges(libraries, changes, expandedSources);
+			if (changedBinaries != null) {
+				JavaLanguageServerPlugin.logInfo(">> Updating classpath for project " + javaProject.getElementName() + " with " + changes.size() + " changed file(s)");
+				resolvedLibraries.put(javaProject, new ResolvedLibraries(resolved.include(), resolved.exclude(), resolved.sources(), libraries));
+				ProjectUtils.updateBinaries(javaProject, libraries, changedBinaries, monitor);
+				return;
+			}
+		}
+		JavaLanguageServerPlugin.logInfo(">> Updating classpath for project " + javaProject.getElementName());
+		final Set<Path> binaries = ProjectUtils.collectBinaries(realFolder, include, exclude, monitor);
+		final Map<Path, IPath> libraries = new LinkedHashMap<>();
 		for (final Path binary: binaries) {
 			if (expandedSources.containsKey(binary)) {
 				libraries.put(binary, expandedSources.get(binary));
@@ -109,9 +129,40 @@ public class UpdateClasspathJob extends WorkspaceJob {
 				libraries.put(binary, ProjectUtils.detectSources(binary));
 			}
 		}
+		if (!monitor.isCanceled()) {
+			resolvedLibraries.put(javaProject, new ResolvedLibraries(new HashSet<>(include), new HashSet<>(exclude), new HashMap<>(sources), libraries));
+		}
 		ProjectUtils.updateBinaries(javaProject, libraries, monitor);
 	}
 
+	/**
+	 * Applies the changed files to the resolved libraries.
+	 *
+	 * @return the binaries whose content changed, or <code>null</code> if the
+	 *         library folders must be scanned again
+	 */
+	private static Set<Path> applyChanges(Map<Path, IPath> libraries, Map<Path, CHANGE_TYPE> changes, Map<Path, IPath> expandedSources) {
+		Set<Path> changedBinaries = new HashSet<>();
+		for (Map.Entry<Path, CHANGE_TYPE> change : changes.entrySet()) {
+			Path file = change.getKey();
+			if (change.getValue() == CHANGE_TYPE.DELETED) {
+				// the deleted file may be a folder containing libraries
+				libraries.keySet().removeIf(binary -> binary.startsWith(file));
+				IPath deletedSource = new org.eclipse.core.runtime.Path(file.toString());
+				libraries.replaceAll((binary, source) -> deletedSource.equals(source) ? null : source);
+			} else if (Files.isDirectory(file)) {
+				return null;
+			} else if (ProjectUtils.isBinary(file)) {
+				libraries.put(file, expandedSources.containsKey(file) ? expandedSources.get(file) : ProjectUtils.detectSources(file));
+				changedBinaries.add(file);
+			} else {
+				// a source archive may have been added next to its binary
+				libraries.replaceAll((binary, source) -> source == null && Objects.equals(binary.getParent(), file.getParent()) ? ProjectUtils.detectSources(binary) : source);
+			}
+		}
+		return changedBinaries;
+	}
+
 	public void updateClasspath(IJavaProject project, Set<String> include, Set<String> exclude, Map<String, String> sources) {
 		if (project == null || include == null) {
 			return;
@@ -129,6 +180,20 @@ public class UpdateClasspathJob extends WorkspaceJob {
 		updateClasspath(project, libraries.getInclude(), libraries.getExclude(), libraries.getSources());
 	}
 
+	/**
+	 * Updates the classpath of the given project after the given file (or
+	 * folder) of its library folders changed.
+	 */
+	public void updateClasspath(IJavaProject project, ReferencedLibraries libraries, Path changedFile, CHANGE_TYPE changeType) {
+		if (project == null || changedFile == null || changeType == null) {
+			updateClasspath(project, libraries);
+			return;
+		}
+		Map<Path, CHANGE_TYPE> changes = new HashMap<>();
+		changes.put(changedFile, changeType);
+		update(new UpdateClasspathRequest(project, libraries.getInclude(), libraries.getExclude(), libraries.getSources(), changes));
+	}
+
 	public void updateClasspath(IJavaProject project) {
 		updateClasspath(project, JavaLanguageServerPlugin.getPreferencesManager().getPreferences().getReferencedLibraries());
 	}
@@ -165,12 +230,23 @@ public class UpdateClasspathJob extends WorkspaceJob {
 		private Set<String> include;
 		private Set<String> exclude;
 		private Map<String, String> sources;
+		private Map<Path, CHANGE_TYPE> changes;
 
 		UpdateClasspathRequest(IJavaProject project, Set<String> include, Set<String> exclude, Map<String, String> sources) {
+			this(project, include, exclude, sources, null);
+		}
+
+		/**
+		 * @param changes
+		 *            the files which changed, or <code>null</code> if the library
+		 *            folders must be scanned
+		 */
+		UpdateClasspathRequest(IJavaProject project, Set<String> include, Set<String> exclude, Map<String, String> sources, Map<Path, CHANGE_TYPE> changes) {
 			this.project = project;
 			this.include = include;
 			this.exclude = exclude;
 			this.sources = sources;
+			this.changes = changes;
 		}
 
 		UpdateClasspathRequest() {
@@ -181,6 +257,27 @@ public class UpdateClasspathJob extends WorkspaceJob {
 			this.project = project;
 		}
 
+		/**
+		 * Merges two requests for the same project. The changed files are only
+		 * kept if both requests have the same libraries configuration.
+		 */
+		static UpdateClasspathRequest merge(UpdateClasspathRequest request, UpdateClasspathRequest other) {
+			UpdateClasspathRequest merged = new UpdateClasspathRequest();
+			merged.setProject(request.getProject());
+			merged.getInclude().addAll(request.getInclude());
+			merged.getInclude().addAll(other.getInclude());
+			merged.getExclude().addAll(request.getExclude());
+			merged.getExclude().addAll(other.getExclude());
+			merged.getSources().putAll(request.getSources());
+			merged.getSources().putAll(other.getSources());
+			if (request.changes != null && other.changes != null && Objects.equals(request.include, other.include) && Objects.equals(request.exclude, other.exclude)
+					&& Objects.equals(request.sources, other.sources)) {
+				merged.changes = new LinkedHashMap<>(request.changes);
+				merged.changes.putAll(other.changes);
+			}
+			return merged;
+		}
+
 		IJavaProject getProject() {
 			return project;
 		}
@@ -199,7 +296,7 @@ public class UpdateClasspathJob extends WorkspaceJob {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(include, exclude, sources, project);
+			return Objects.hash(include, exclude, sources, changes, project);
 		}
 
 		@Override
@@ -217,11 +314,19 @@ public class UpdateClasspathJob extends WorkspaceJob {
 			return Objects.equals(project, other.project)
 				&& Objects.equals(include, other.include)
 				&& Objects.equals(exclude, other.exclude)
-				&& Objects.equals(sources, other.sources);
+				&& Objects.equals(sources, other.sources)
+				&& Objects.equals(changes, other.changes);
 		}
 
 	}
 
+	private record ResolvedLibraries(Set<String> include, Set<String> exclude, Map<String, String> sources, Map<Path, IPath> libraries) {
+
+		boolean matches(Set<String> include, Set<String> exclude, Map<String, String> sources) {
+			return this.include.equals(include) && this.exclude.equals(exclude) && this.sources.equals(sources);
+		}
+	}
+
 	public static UpdateClasspathJob getInstance() {
 		return instance;
 	}
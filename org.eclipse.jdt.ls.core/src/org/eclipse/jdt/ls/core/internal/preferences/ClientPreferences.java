@@ -250,6 +250,15 @@ public class ClientPreferences {
 		return Boolean.parseBoolean(extendedClientCapabilities.getOrDefault("hashCodeEqualsPromptSupport", "false").toString());
 	}
 
+	/**
+	 * @return whether the client keeps the completion items' data opaque, so
+	 *         that it can be sent as a compact <code>[requestId, proposalId]</code>
+	 *         tuple instead of a map
+	 */
+	public boolean isCompactCompletionResolveDataSupported() {
+		return Boolean.parseBoolean(extendedClientCapabilities.getOrDefault("compactCompletionResolveDataSupport", "false").toString());
+	}
+
 	public boolean isAdvancedOrganizeImportsSupported() {
 		return Boolean.parseBoolean(extendedClientCapabilities.getOrDefault("advancedOrganizeImportsSupport", "false").toString());
 	}
@@ -121,6 +121,12 @@ public class Preferences {
 	 */
 	public static final String JAVA_SYMBOLS_INCLUDE_GENERATED_CODE = "java.symbols.includeGeneratedCode";
 
+	/**
+	 * Answer workspace symbol queries from an in-memory index of the source
+	 * symbols, with fuzzy matching and ranking.
+	 */
+	public static final String JAVA_SYMBOLS_FUZZY_INDEX_ENABLED = "java.symbols.fuzzyIndex.enabled";
+
 	/**
 	 * Insert spaces when pressing Tab
 	 */
@@ -175,6 +181,24 @@ public class Preferences {
 	 * Preference key to enable/disable gradle offline mode.
 	 */
 	public static final String IMPORT_GRADLE_OFFLINE_ENABLED = "java.import.gradle.offline.enabled";
+	/**
+	 * Preference key for the maximum number of independent Gradle builds
+	 * prepared concurrently when importing a multi-root workspace.
+	 */
+	public static final String IMPORT_GRADLE_MAX_CONCURRENT_BUILDS = "java.import.gradle.maxConcurrentBuilds";
+	/**
+	 * Preference key to only import the Maven and Gradle projects when their
+	 * documents are opened, the remaining projects being imported in the
+	 * background.
+	 */
+	public static final String IMPORT_LAZY_ENABLED = "java.import.lazy.enabled";
+	/**
+	 * Preference key to serve the requests from the workspace saved by the
+	 * previous session as soon as the server starts, the projects being
+	 * verified, and re-imported if their build files changed, in the
+	 * background.
+	 */
+	public static final String IMPORT_FAST_START_ENABLED = "java.import.fastStart.enabled";
 	/**
 	 * Preference key to enable/disable gradle wrapper.
 	 */
@@ -302,6 +326,13 @@ public class Preferences {
 	 */
 	public static final String JAVA_MAX_CONCURRENT_BUILDS = "java.maxConcurrentBuilds";
 
+	/**
+	 * Preference key to let the background jobs (classpath and project
+	 * updates, index copies, workspace diagnostics) pause while interactive
+	 * requests are being served.
+	 */
+	public static final String JAVA_JOBS_YIELD_TO_INTERACTIVE = "java.jobs.yieldToInteractive";
+
 	/**
 	 * Preference key to exclude directories when importing projects.
 	 */
@@ -656,6 +687,9 @@ public class Preferences {
 	private boolean referencesCodeLensEnabled;
 	private boolean importGradleEnabled;
 	private boolean importGradleOfflineEnabled;
+	private int gradleMaxConcurrentBuilds;
+	private boolean importLazyEnabled;
+	private boolean importFastStartEnabled;
 	private boolean gradleWrapperEnabled;
 	private String gradleVersion;
 	private List<String> gradleArguments;
@@ -711,6 +745,7 @@ public class Preferences {
 	private boolean includeDecompiledSources;
 	private boolean includeSourceMethodDeclarations;
 	private boolean showGeneratedCodeSymbols;
+	private boolean symbolsFuzzyIndexEnabled;
 
 	private String mavenUserSettings;
 	private String mavenGlobalSettings;
@@ -735,6 +770,7 @@ public class Preferences {
 	private Collection<IPath> triggerFiles;
 	private Collection<IPath> projectConfigurations;
 	private int parallelBuildsCount;
+	private boolean yieldToInteractive;
 	private int maxCompletionResults;
 	private int importOnDemandThreshold;
 	private int staticImportOnDemandThreshold;
@@ -951,6 +987,9 @@ public class Preferences {
 		updateBuildConfigurationStatus = FeatureStatus.interactive;
 		importGradleEnabled = true;
 		importGradleOfflineEnabled = false;
+		gradleMaxConcurrentBuilds = 1;
+		importLazyEnabled = false;
+		importFastStartEnabled = false;
 		gradleWrapperEnabled = true;
 		gradleVersion = null;
 		gradleArguments = new ArrayList<>();
@@ -1009,6 +1048,7 @@ public class Preferences {
 		importOrder = JAVA_IMPORT_ORDER_DEFAULT;
 		filteredTypes = JAVA_COMPLETION_FILTERED_TYPES_DEFAULT;
 		parallelBuildsCount = PreferenceInitializer.PREF_MAX_CONCURRENT_BUILDS_DEFAULT;
+		yieldToInteractive = true;
 		maxCompletionResults = JAVA_COMPLETION_MAX_RESULTS_DEFAULT;
 		importOnDemandThreshold = IMPORTS_ONDEMANDTHRESHOLD_DEFAULT;
 		staticImportOnDemandThreshold = IMPORTS_STATIC_ONDEMANDTHRESHOLD_DEFAULT;
@@ -1019,6 +1059,7 @@ public class Preferences {
 		includeDecompiledSources = true;
 		includeSourceMethodDeclarations = false;
 		showGeneratedCodeSymbols = false;
+		symbolsFuzzyIndexEnabled = false;
 		insertSpaces = true;
 		tabSize = DEFAULT_TAB_SIZE;
 		mavenNotCoveredPluginExecutionSeverity = IGNORE;
@@ -1124,6 +1165,9 @@ public class Preferences {
 		prefs.insertSpaces = this.insertSpaces;
 		prefs.tabSize = this.tabSize;
 		prefs.importGradleOfflineEnabled = this.importGradleOfflineEnabled;
+		prefs.gradleMaxConcurrentBuilds = this.gradleMaxConcurrentBuilds;
+		prefs.importLazyEnabled = this.importLazyEnabled;
+		prefs.importFastStartEnabled = this.importFastStartEnabled;
 		prefs.gradleWrapperEnabled = this.gradleWrapperEnabled;
 		prefs.gradleVersion = this.gradleVersion;
 		prefs.gradleHome = this.gradleHome;
@@ -1182,6 +1226,7 @@ public class Preferences {
 		prefs.formatterProfileName = this.formatterProfileName;
 		prefs.javaFormatComments = this.javaFormatComments;
 		prefs.parallelBuildsCount = this.parallelBuildsCount;
+		prefs.yieldToInteractive = this.yieldToInteractive;
 		prefs.maxCompletionResults = this.maxCompletionResults;
 		prefs.importOnDemandThreshold = this.importOnDemandThreshold;
 		prefs.staticImportOnDemandThreshold = this.staticImportOnDemandThreshold;
@@ -1190,6 +1235,7 @@ public class Preferences {
 		prefs.includeDecompiledSources = this.includeDecompiledSources;
 		prefs.includeSourceMethodDeclarations = this.includeSourceMethodDeclarations;
 		prefs.showGeneratedCodeSymbols = this.showGeneratedCodeSymbols;
+		prefs.symbolsFuzzyIndexEnabled = this.symbolsFuzzyIndexEnabled;
 		prefs.inlayHintsParameterMode = this.inlayHintsParameterMode;
 		prefs.inlayHintsSuppressedWhenSameNameNumberedParameter = this.inlayHintsSuppressedWhenSameNameNumberedParameter;
 		prefs.inlayHintsVariableTypesEnabled = this.inlayHintsVariableTypesEnabled;
@@ -1310,6 +1356,21 @@ public class Preferences {
 			prefs.setImportGradleOfflineEnabled(importGradleOfflineEnabled);
 		}
 
+		if (containsKey(configuration, IMPORT_GRADLE_MAX_CONCURRENT_BUILDS)) {
+			int gradleMaxConcurrentBuilds = getInt(configuration, IMPORT_GRADLE_MAX_CONCURRENT_BUILDS, existing.gradleMaxConcurrentBuilds);
+			prefs.setGradleMaxConcurrentBuilds(gradleMaxConcurrentBuilds >= 1 ? gradleMaxConcurrentBuilds : 1);
+		}
+
+		if (containsKey(configuration, IMPORT_LAZY_ENABLED)) {
+			boolean importLazyEnabled = getBoolean(configuration, IMPORT_LAZY_ENABLED, existing.importLazyEnabled);
+			prefs.setImportLazyEnabled(importLazyEnabled);
+		}
+
+		if (containsKey(configuration, IMPORT_FAST_START_ENABLED)) {
+			boolean importFastStartEnabled = getBoolean(configuration, IMPORT_FAST_START_ENABLED, existing.importFastStartEnabled);
+			prefs.setImportFastStartEnabled(importFastStartEnabled);
+		}
+
 		if (containsKey(configuration, GRADLE_WRAPPER_ENABLED)) {
 			boolean gradleWrapperEnabled = getBoolean(configuration, GRADLE_WRAPPER_ENABLED, existing.gradleWrapperEnabled);
 			prefs.setGradleWrapperEnabled(gradleWrapperEnabled);
@@ -1695,6 +1756,11 @@ public class Preferences {
 			prefs.setMaxBuildCount(maxConcurrentBuilds);
 		}
 
+		if (containsKey(configuration, JAVA_JOBS_YIELD_TO_INTERACTIVE)) {
+			boolean yieldToInteractive = getBoolean(configuration, JAVA_JOBS_YIELD_TO_INTERACTIVE, existing.yieldToInteractive);
+			prefs.setYieldToInteractive(yieldToInteractive);
+		}
+
 		if (containsKey(configuration, JAVA_COMPLETION_MAX_RESULTS_KEY)) {
 			int maxCompletions = getInt(configuration, JAVA_COMPLETION_MAX_RESULTS_KEY, existing.maxCompletionResults);
 			prefs.setMaxCompletionResults(maxCompletions);
@@ -1817,6 +1883,11 @@ public class Preferences {
 			prefs.setShowGeneratedCodeSymbols(showGeneratedCodeSymbols);
 		}
 
+		if (containsKey(configuration, JAVA_SYMBOLS_FUZZY_INDEX_ENABLED)) {
+			boolean symbolsFuzzyIndexEnabled = getBoolean(configuration, JAVA_SYMBOLS_FUZZY_INDEX_ENABLED, existing.symbolsFuzzyIndexEnabled);
+			prefs.setSymbolsFuzzyIndexEnabled(symbolsFuzzyIndexEnabled);
+		}
+
 		if (containsKey(configuration, JAVA_INLAYHINTS_PARAMETERNAMES_ENABLED)) {
 			String inlayHintsParameterMode = getString(configuration, JAVA_INLAYHINTS_PARAMETERNAMES_ENABLED, null);
 			prefs.setInlayHintsParameterMode(InlayHintsParameterMode.fromString(inlayHintsParameterMode, existing.inlayHintsParameterMode));
@@ -2151,6 +2222,21 @@ public class Preferences {
 		return this;
 	}
 
+	public Preferences setGradleMaxConcurrentBuilds(int gradleMaxConcurrentBuilds) {
+		this.gradleMaxConcurrentBuilds = gradleMaxConcurrentBuilds;
+		return this;
+	}
+
+	public Preferences setImportLazyEnabled(boolean importLazyEnabled) {
+		this.importLazyEnabled = importLazyEnabled;
+		return this;
+	}
+
+	public Preferences setImportFastStartEnabled(boolean importFastStartEnabled) {
+		this.importFastStartEnabled = importFastStartEnabled;
+		return this;
+	}
+
 	public Preferences setGradleWrapperEnabled(boolean enabled) {
 		this.gradleWrapperEnabled = enabled;
 		return this;
@@ -2367,6 +2453,11 @@ public class Preferences {
 		return this;
 	}
 
+	public Preferences setYieldToInteractive(boolean yieldToInteractive) {
+		this.yieldToInteractive = yieldToInteractive;
+		return this;
+	}
+
 	public FeatureStatus getUpdateBuildConfigurationStatus() {
 		return updateBuildConfigurationStatus;
 	}
@@ -2505,6 +2596,18 @@ public class Preferences {
 		return importGradleOfflineEnabled;
 	}
 
+	public int getGradleMaxConcurrentBuilds() {
+		return gradleMaxConcurrentBuilds;
+	}
+
+	public boolean isImportLazyEnabled() {
+		return importLazyEnabled;
+	}
+
+	public boolean isImportFastStartEnabled() {
+		return importFastStartEnabled;
+	}
+
 	public boolean isGradleWrapperEnabled() {
 		return gradleWrapperEnabled;
 	}
@@ -2740,6 +2843,10 @@ public class Preferences {
 		return parallelBuildsCount;
 	}
 
+	public boolean isYieldToInteractive() {
+		return yieldToInteractive;
+	}
+
 	public Map<String, Object> asMap() {
 		if (configuration == null) {
 			return null;
@@ -2980,6 +3087,14 @@ public class Preferences {
 		this.showGeneratedCodeSymbols = showGeneratedCodeSymbols;
 	}
 
+	public boolean isSymbolsFuzzyIndexEnabled() {
+		return this.symbolsFuzzyIndexEnabled;
+	}
+
+	public void setSymbolsFuzzyIndexEnabled(boolean symbolsFuzzyIndexEnabled) {
+		this.symbolsFuzzyIndexEnabled = symbolsFuzzyIndexEnabled;
+	}
+
 	public Preferences setInsertSpaces(boolean insertSpaces) {
 		this.insertSpaces = insertSpaces;
 		return this;
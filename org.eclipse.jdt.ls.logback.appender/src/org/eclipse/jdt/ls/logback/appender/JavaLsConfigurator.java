@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.logback.appender;
 
+import ch.qos.logback.classic.AsyncAppender;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
@@ -26,6 +27,8 @@ import ch.qos.logback.core.spi.ContextAwareBase;
  */
 public class JavaLsConfigurator extends ContextAwareBase implements Configurator {
 
+	private static final int ASYNC_QUEUE_SIZE = 1024;
+
 	public JavaLsConfigurator() {
 	}
 
@@ -39,9 +42,19 @@ public class JavaLsConfigurator extends ContextAwareBase implements Configurator
 			eca.setName("JavaLS");
 			eca.start();
 
+			// write to the Eclipse log from a background thread, the events
+			// overflowing the queue are discarded rather than blocking the caller
+			AsyncAppender async = new AsyncAppender();
+			async.setContext(lc);
+			async.setName("JavaLSAsync");
+			async.setQueueSize(ASYNC_QUEUE_SIZE);
+			async.setNeverBlock(true);
+			async.addAppender(eca);
+			async.start();
+
 			Logger rootLogger = lc.getLogger(Logger.ROOT_LOGGER_NAME);
 			rootLogger.setLevel(Level.DEBUG);
-			rootLogger.addAppender(eca);
+			rootLogger.addAppender(async);
 
 			Logger httpLogger = lc.getLogger("org.apache.hc.client5.http");
 			httpLogger.setLevel(Level.INFO);
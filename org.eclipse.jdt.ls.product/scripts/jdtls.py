@@ -79,6 +79,24 @@ def get_shared_config_path(jdtls_base_path):
 
 	return str(jdtls_base_path / config_dir)
 
+def get_shared_archive_path(cachedir, jdtls_base_path, java_executable):
+	# the archive is only valid for the JVM and the class path it was created with
+	key = str(jdtls_base_path.resolve()) + os.pathsep + java_executable
+	return str(cachedir / ("jdtls-" + sha1(key.encode()).hexdigest() + ".jsa"))
+
+def get_class_data_sharing_args(known_args, cachedir, jdtls_base_path, java_executable, java_major_version):
+	# -XX:+AutoCreateSharedArchive requires Java 19
+	if not known_args.class_data_sharing or java_major_version < 19:
+		return []
+	if any(arg.startswith(('-XX:SharedArchiveFile', '-XX:ArchiveClassesAtExit', '-Xshare')) for arg in known_args.jvm_arg):
+		return []
+	os.makedirs(cachedir, exist_ok=True)
+	# the archive is created when the first session exits, and re-created when it doesn't match the JVM anymore.
+	# The CDS warnings are disabled, they would be written to stdout which may be used as the client connection
+	return ["-XX:+AutoCreateSharedArchive",
+			"-XX:SharedArchiveFile=" + get_shared_archive_path(cachedir, jdtls_base_path, java_executable),
+			"-Xlog:cds=off,cds+dynamic=off"]
+
 def main(args):
 	cwd_name = os.path.basename(os.getcwd())
 
@@ -106,6 +124,12 @@ def main(args):
 			default=[],
 			action="append",
 			help="An additional JVM option (can be used multiple times. Note, use with equal sign. For example: --jvm-arg=-Dlog.level=ALL")
+	parser.add_argument("--application",
+			default="org.eclipse.jdt.ls.core.id1",
+			help="The application to run, use org.eclipse.jdt.ls.core.indexer with -Djdt.core.sharedIndexLocation to pre-build the shared indexes of the JDKs (-jdk <java home>) and libraries (-lib <jar or directory>)")
+	parser.add_argument('--class-data-sharing', action='store_true', default=True)
+	parser.add_argument('--no-class-data-sharing', dest='class_data_sharing', action='store_false',
+			help="Do not use a class data sharing archive of the server classes to speed up the start up")
 	parser.add_argument("-data", default=jdtls_data_path)
 
 	known_args, args = parser.parse_known_args(args)
@@ -116,7 +140,7 @@ def main(args):
 	shared_config_path = get_shared_config_path(jdtls_base_path)
 	jar_path = find_equinox_launcher(jdtls_base_path)
 
-	exec_args = ["-Declipse.application=org.eclipse.jdt.ls.core.id1",
+	exec_args = ["-Declipse.application=" + known_args.application,
 			"-Dosgi.bundles.defaultStartLevel=4",
 			"-Declipse.product=org.eclipse.jdt.ls.core.product",
 			"-Dosgi.checkConfiguration=true",
@@ -127,6 +151,7 @@ def main(args):
 			"--add-modules=ALL-SYSTEM",
 			"--add-opens", "java.base/java.util=ALL-UNNAMED",
 			"--add-opens", "java.base/java.lang=ALL-UNNAMED"] \
+			+ get_class_data_sharing_args(known_args, cachedir, jdtls_base_path, java_executable, java_major_version) \
 			+ known_args.jvm_arg \
 			+ ["-jar", jar_path,
 			"-data", known_args.data] \
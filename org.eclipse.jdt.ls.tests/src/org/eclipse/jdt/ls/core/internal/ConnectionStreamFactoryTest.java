@@ -12,12 +12,23 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.jdt.ls.core.internal.ConnectionStreamFactory.NamedPipeInputStream;
+import org.eclipse.jdt.ls.core.internal.ConnectionStreamFactory.NamedPipeOutputStream;
 import org.eclipse.jdt.ls.core.internal.ConnectionStreamFactory.SocketStreamProvider;
 import org.eclipse.jdt.ls.core.internal.ConnectionStreamFactory.StdIOStreamProvider;
 import org.eclipse.jdt.ls.core.internal.ConnectionStreamFactory.StreamProvider;
@@ -52,6 +63,52 @@ public class ConnectionStreamFactoryTest {
 		assertTrue(tested.getInputStream().available() == 0);
 	}
 
+	@Test
+	public void testPipeStreams() throws Exception {
+		Pipe pipe = Pipe.open();
+		int[] sizes = { 0, 1, 100, ConnectionStreamFactory.BUFFER_SIZE - 1, ConnectionStreamFactory.BUFFER_SIZE, 3 * ConnectionStreamFactory.BUFFER_SIZE + 7 };
+		try (InputStream in = new NamedPipeInputStream(pipe.source()); OutputStream out = new NamedPipeOutputStream(pipe.sink())) {
+			CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+				try {
+					for (int size : sizes) {
+						out.write(("Content-Length: " + size + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+						out.write(getContent(size));
+						out.flush();
+					}
+					out.write('!');
+					out.flush();
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			for (int size : sizes) {
+				byte[] header = ("Content-Length: " + size + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+				for (byte b : header) {
+					assertEquals(b, in.read());
+				}
+				byte[] content = new byte[size];
+				int read = 0;
+				while (read < size) {
+					int count = in.read(content, read, size - read);
+					assertTrue(count > 0);
+					read += count;
+				}
+				assertArrayEquals(getContent(size), content);
+			}
+			assertEquals('!', in.read());
+			writer.get(10, TimeUnit.SECONDS);
+		}
+	}
+
+	private static byte[] getContent(int size) {
+		byte[] content = new byte[size];
+		Arrays.fill(content, (byte) 'x');
+		if (size > 0) {
+			content[size - 1] = 'y';
+		}
+		return content;
+	}
+
 	private void checkStreamProvider(Class<? extends StreamProvider> providerClass){
 		ConnectionStreamFactory tested = new ConnectionStreamFactory(null);
 		StreamProvider provider = tested.getSelectedStream();
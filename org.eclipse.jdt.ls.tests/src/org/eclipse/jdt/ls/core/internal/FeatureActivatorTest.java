@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.core.resources.ISaveContext;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.osgi.framework.Bundle;
+
+public class FeatureActivatorTest extends AbstractProjectsManagerBasedTest {
+
+	@AfterEach
+	public void resetLazyActivation() {
+		System.clearProperty(FeatureActivator.LAZY_ACTIVATION);
+	}
+
+	@Test
+	public void testLazyActivation() {
+		assertFalse(FeatureActivator.isLazyActivationEnabled());
+		System.setProperty(FeatureActivator.LAZY_ACTIVATION, "true");
+		assertTrue(FeatureActivator.isLazyActivationEnabled());
+	}
+
+	@Test
+	public void testGradleNeededByWorkspace() throws Exception {
+		importProjects("eclipse/hello");
+		assertFalse(FeatureActivator.hasGradleProjects());
+		importProjects("gradle/simple-gradle");
+		assertTrue(FeatureActivator.hasGradleProjects());
+	}
+
+	@Test
+	public void testGradleNotActivatedByNonGradleWorkspace() throws Exception {
+		Bundle bundle = Platform.getBundle(FeatureActivator.GRADLE_BUNDLE_ID);
+		System.setProperty(FeatureActivator.LAZY_ACTIVATION, "true");
+		try {
+			// started on its first class load, as when the language server starts
+			bundle.stop(Bundle.STOP_TRANSIENT);
+			bundle.start(Bundle.START_TRANSIENT | Bundle.START_ACTIVATION_POLICY);
+			assertFalse(FeatureActivator.isGradleActive());
+			FeatureActivator.activateOnStartup();
+			importProjects("maven/salut");
+			ISaveContext saveContext = mock(ISaveContext.class);
+			when(saveContext.getKind()).thenReturn(ISaveContext.FULL_SAVE);
+			projectsManager.prepareToSave(saveContext);
+			assertNotEquals(Bundle.ACTIVE, bundle.getState());
+			assertFalse(FeatureActivator.isGradleActive());
+		} finally {
+			bundle.start();
+		}
+		assertTrue(FeatureActivator.isGradleActive());
+	}
+
+	@Test
+	public void testActivationMeasured() {
+		FeatureActivator.activateGradle();
+		FeatureActivator.Activation activation = FeatureActivator.getActivation(FeatureActivator.GRADLE_BUNDLE_ID);
+		assertNotNull(activation);
+		assertEquals(Bundle.ACTIVE, Platform.getBundle(FeatureActivator.GRADLE_BUNDLE_ID).getState());
+		// the time and heap saved at start up when the Gradle support isn't needed
+		assertTrue(activation.timeMillis() >= 0);
+		assertTrue(activation.heapBytes() >= 0);
+		JavaLanguageServerPlugin.logInfo("Gradle support activated in " + activation.timeMillis() + "ms, using " + activation.heapBytes() + " bytes");
+
+		// activated once
+		FeatureActivator.activateGradle();
+		assertSame(activation, FeatureActivator.getActivation(FeatureActivator.GRADLE_BUNDLE_ID));
+	}
+}
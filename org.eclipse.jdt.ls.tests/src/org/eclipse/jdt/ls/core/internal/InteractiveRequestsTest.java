@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.junit.jupiter.api.Test;
+
+public class InteractiveRequestsTest {
+
+	@Test
+	public void testYieldToInteractive() throws Exception {
+		assertFalse(InteractiveRequests.isRunning());
+		assertFalse(InteractiveRequests.yieldToInteractive(new NullProgressMonitor()));
+
+		long yields = InteractiveRequests.getStatistics().yieldCount();
+		InteractiveRequests.begin();
+		CompletableFuture<Boolean> background;
+		try {
+			assertTrue(InteractiveRequests.isRunning());
+			background = CompletableFuture.supplyAsync(() -> InteractiveRequests.yieldToInteractive(new NullProgressMonitor()));
+			Thread.sleep(50);
+			assertFalse(background.isDone());
+		} finally {
+			InteractiveRequests.end();
+		}
+		assertTrue(background.get(1, TimeUnit.SECONDS));
+		assertFalse(InteractiveRequests.isRunning());
+		assertEquals(yields + 1, InteractiveRequests.getStatistics().yieldCount());
+	}
+
+	@Test
+	public void testNoYieldHoldingRule() throws Exception {
+		AtomicBoolean ruleYielded = new AtomicBoolean(true);
+		Job ruleJob = Job.create("Job holding the workspace root", monitor -> {
+			ruleYielded.set(InteractiveRequests.yieldToInteractive(monitor));
+		});
+		ruleJob.setRule(ResourcesPlugin.getWorkspace().getRoot());
+		AtomicBoolean lockYielded = new AtomicBoolean(true);
+		WorkspaceJob workspaceJob = new WorkspaceJob("Job holding the workspace lock") {
+			@Override
+			public IStatus runInWorkspace(IProgressMonitor monitor) {
+				lockYielded.set(InteractiveRequests.yieldToInteractive(monitor));
+				return Status.OK_STATUS;
+			}
+		};
+		AtomicBoolean yielded = new AtomicBoolean();
+		Job job = Job.create("Job between workspace operations", monitor -> {
+			ResourcesPlugin.getWorkspace().run(m -> {
+			}, null, 0, monitor);
+			yielded.set(InteractiveRequests.yieldToInteractive(monitor));
+		});
+		InteractiveRequests.begin();
+		try {
+			ruleJob.schedule();
+			workspaceJob.schedule();
+			assertTrue(ruleJob.join(1000, null));
+			assertTrue(workspaceJob.join(1000, null));
+			job.schedule();
+			assertTrue(job.join(1000, null));
+		} finally {
+			InteractiveRequests.end();
+		}
+		assertFalse(ruleYielded.get());
+		assertFalse(lockYielded.get());
+		assertTrue(yielded.get());
+	}
+
+	@Test
+	public void testNotRunningWhileWaitingForJobs() throws Exception {
+		String family = "test.interactive.requests";
+		AtomicBoolean sawRunning = new AtomicBoolean(true);
+		Job job = new Job("Job waited for by a request") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				// the request starts waiting for this job
+				long deadline = System.currentTimeMillis() + 5000;
+				while (InteractiveRequests.isRunning() && System.currentTimeMillis() < deadline) {
+					Thread.onSpinWait();
+				}
+				sawRunning.set(InteractiveRequests.isRunning());
+				return Status.OK_STATUS;
+			}
+
+			@Override
+			public boolean belongsTo(Object jobFamily) {
+				return family.equals(jobFamily);
+			}
+		};
+		job.setRule(ResourcesPlugin.getWorkspace().getRoot());
+		InteractiveRequests.run(() -> {
+			job.schedule();
+			InteractiveRequests.waitForJobs(family, new NullProgressMonitor());
+			assertTrue(InteractiveRequests.isRunning());
+			return null;
+		});
+		assertFalse(sawRunning.get());
+		assertFalse(InteractiveRequests.isRunning());
+	}
+
+	@Test
+	public void testWaitStatistics() {
+		long waits = InteractiveRequests.getStatistics().waitCount();
+		InteractiveRequests.waitForJobs("no.such.family", new NullProgressMonitor());
+		assertEquals(waits + 1, InteractiveRequests.getStatistics().waitCount());
+		assertFalse(InteractiveRequests.isRunning());
+	}
+}
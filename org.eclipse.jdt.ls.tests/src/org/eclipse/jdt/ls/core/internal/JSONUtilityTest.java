@@ -17,12 +17,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
 
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.SymbolKind;
 import org.junit.jupiter.api.Test;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 /**
  * JSONUtilityTest
@@ -57,4 +64,32 @@ public class JSONUtilityTest {
 		assertNull(JSONUtility.toModel(null, Object.class));
 	}
 
+	@Test
+	public void testToStringMap() {
+		JsonObject data = new JsonObject();
+		data.addProperty("rid", "12");
+		data.addProperty("pid", 3);
+		data.add("uri", null);
+		data.add("range", new Gson().toJsonTree(new Position(1, 2)));
+		Map<String, String> map = JSONUtility.toStringMap(data);
+		assertEquals("12", map.get("rid"));
+		assertEquals("3", map.get("pid"));
+		assertTrue(map.containsKey("uri"));
+		assertNull(map.get("uri"));
+		assertEquals("{\"line\":1,\"character\":2}", map.get("range"));
+		assertEquals(map, JSONUtility.toStringMap(data.toString()));
+		assertSame(map, JSONUtility.toStringMap(map));
+		assertNull(JSONUtility.toStringMap(null));
+		assertNull(JSONUtility.toStringMap(new JsonPrimitive(1)));
+	}
+
+	@Test
+	public void testToLsp4jModel() {
+		String json = "{\"name\":\"Foo\",\"kind\":5,\"location\":{\"uri\":\"file:///Foo.java\",\"range\":{\"start\":{\"line\":0,\"character\":0},\"end\":{\"line\":0,\"character\":3}}}}";
+		SymbolInformation symbol = JSONUtility.toLsp4jModel(json, SymbolInformation.class);
+		assertEquals("Foo", symbol.getName());
+		assertEquals(SymbolKind.Class, symbol.getKind());
+		assertEquals(symbol, JSONUtility.toLsp4jModel(json, SymbolInformation.class));
+	}
+
 }
@@ -22,11 +22,13 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.commons.io.FileUtils;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.FileLocator;
@@ -153,6 +155,47 @@ public class JVMConfiguratorTest extends AbstractInvisibleProjectBasedTest {
 		assertNull(vm);
 	}
 
+	@Test
+	public void testValidatedRuntime() throws Exception {
+		Bundle bundle = Platform.getBundle(JavaLanguageServerTestPlugin.PLUGIN_ID);
+		URL url = FileLocator.toFileURL(bundle.getEntry("/fakejdk2/21a"));
+		File tempDir = Files.createTempDirectory("jdk").toFile();
+		try {
+			File jdk = new File(tempDir, "21a");
+			FileUtils.copyDirectory(URIUtil.toFile(URIUtil.toURI(url)), jdk);
+			Preferences prefs = new Preferences();
+			RuntimeEnvironment runtime = new RuntimeEnvironment();
+			runtime.setPath(jdk.getAbsolutePath());
+			runtime.setName(ENVIRONMENT_NAME);
+			prefs.setRuntimes(Set.of(runtime));
+			File file = runtime.getInstallationFile();
+			String stamp = JVMConfigurator.getRuntimeStamp(file);
+			assertNotNull(stamp);
+			assertNull(JVMConfigurator.getRuntimeStamp(new File(file, "lib")));
+			String validation = "Validating runtime at " + file;
+			JVMConfigurator.configureJVMs(prefs);
+			assertNotNull(JVMConfigurator.findVM(file, ENVIRONMENT_NAME));
+			String key = JVMConfigurator.VALIDATED_RUNTIME_KEY_PREFIX + file.getAbsolutePath();
+			assertEquals(stamp, JavaLanguageServerPlugin.getDigestStore().getDigest(key));
+			assertEquals(1, Collections.frequency(logListener.getInfos(), validation));
+			// the unchanged runtime isn't validated again
+			JVMConfigurator.configureJVMs(prefs);
+			assertEquals(1, Collections.frequency(logListener.getInfos(), validation));
+			// the runtime is validated again once updated
+			assertTrue(new File(file, "release").setLastModified(System.currentTimeMillis() + 10_000));
+			assertNotEquals(stamp, JVMConfigurator.getRuntimeStamp(file));
+			JVMConfigurator.configureJVMs(prefs);
+			assertEquals(2, Collections.frequency(logListener.getInfos(), validation));
+			assertEquals(JVMConfigurator.getRuntimeStamp(file), JavaLanguageServerPlugin.getDigestStore().getDigest(key));
+		} finally {
+			IVMInstall vm = JVMConfigurator.findVM(null, ENVIRONMENT_NAME);
+			if (vm != null) {
+				vm.getVMInstallType().disposeVMInstall(vm.getId());
+			}
+			FileUtils.deleteDirectory(tempDir);
+		}
+	}
+
 	@Test
 	public void testInvalidJavadoc() throws Exception {
 		Bundle bundle = Platform.getBundle(JavaLanguageServerTestPlugin.PLUGIN_ID);
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.ls.core.internal.RequestExecutor.Lane;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestExecutorTest {
+
+	@AfterEach
+	public void tearDown() {
+		System.clearProperty(RequestExecutor.MAX_SEARCHES_PROPERTY);
+	}
+
+	@Test
+	public void testDefaultExecutor() throws Exception {
+		RequestExecutor executor = new RequestExecutor(false);
+		for (Lane lane : Lane.values()) {
+			assertNull(executor.getExecutor(lane), lane.name());
+			assertFalse(executor.computeAsync(lane, cc -> Thread.currentThread().isVirtual()).get(10, TimeUnit.SECONDS), lane.name());
+		}
+	}
+
+	@Test
+	public void testLanes() throws Exception {
+		RequestExecutor executor = new RequestExecutor(true);
+		for (Lane lane : Lane.values()) {
+			assertNotNull(executor.getExecutor(lane), lane.name());
+			Thread thread = executor.computeAsync(lane, cc -> Thread.currentThread()).get(10, TimeUnit.SECONDS);
+			if (lane == Lane.INTERACTIVE) {
+				assertFalse(thread.isVirtual());
+				assertTrue(thread.getName().startsWith("jdt.ls-interactive-"), thread.getName());
+			} else {
+				assertTrue(thread.isVirtual(), lane.name());
+			}
+		}
+	}
+
+	@Test
+	public void testMaxSearches() throws Exception {
+		System.setProperty(RequestExecutor.MAX_SEARCHES_PROPERTY, "2");
+		RequestExecutor executor = new RequestExecutor(true);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicInteger started = new AtomicInteger();
+		List<CompletableFuture<Object>> searches = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			searches.add(executor.computeAsync(Lane.SEARCH, cc -> {
+				started.incrementAndGet();
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				running.decrementAndGet();
+				return null;
+			}));
+		}
+		try {
+			long deadline = System.currentTimeMillis() + 10000;
+			while (started.get() < 2 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			// the interactive requests don't queue behind the searches
+			assertEquals("done", executor.computeAsync(Lane.INTERACTIVE, cc -> "done").get(10, TimeUnit.SECONDS));
+			Thread.sleep(200);
+			assertEquals(2, started.get());
+		} finally {
+			release.countDown();
+		}
+		CompletableFuture.allOf(searches.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+		assertEquals(5, started.get());
+		assertEquals(2, maxRunning.get());
+	}
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.junit.jupiter.api.Test;
+
+public class SearchScopeCacheTest extends AbstractProjectsManagerBasedTest {
+
+	@Test
+	public void testScopeIsReusedUntilClasspathChanges() throws Exception {
+		IJavaProject javaProject = newEmptyProject();
+		IJavaProject[] projects = new IJavaProject[] { javaProject };
+		SearchScopeCache cache = SearchScopeCache.getInstance();
+
+		IJavaSearchScope scope = cache.getSearchScope(projects, IJavaSearchScope.SOURCES, false);
+		assertSame(scope, cache.getSearchScope(projects, IJavaSearchScope.SOURCES, false));
+		assertNotSame(scope, cache.getSearchScope(projects, IJavaSearchScope.SOURCES, true));
+		assertNotSame(scope, cache.getSearchScope(projects, IJavaSearchScope.SOURCES | IJavaSearchScope.APPLICATION_LIBRARIES, false));
+
+		IClasspathEntry[] classpath = javaProject.getRawClasspath();
+		IClasspathEntry[] newClasspath = Arrays.copyOf(classpath, classpath.length + 1);
+		newClasspath[classpath.length] = JavaCore.newSourceEntry(javaProject.getPath().append("src2"));
+		javaProject.getProject().getFolder("src2").create(true, true, null);
+		javaProject.setRawClasspath(newClasspath, new NullProgressMonitor());
+		waitForBackgroundJobs();
+
+		assertNotSame(scope, cache.getSearchScope(projects, IJavaSearchScope.SOURCES, false));
+	}
+}
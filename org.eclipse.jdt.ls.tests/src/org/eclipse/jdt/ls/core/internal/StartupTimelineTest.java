@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+public class StartupTimelineTest {
+
+	@TempDir
+	File tempDir;
+
+	@BeforeEach
+	@AfterEach
+	public void reset() {
+		StartupTimeline.reset();
+	}
+
+	@Test
+	public void testExport() throws Exception {
+		try (StartupTimeline.Span outer = StartupTimeline.begin("outer", "test")) {
+			try (StartupTimeline.Span inner = StartupTimeline.begin("inner", "test")) {
+				Thread.sleep(5);
+			}
+		}
+		File file = new File(tempDir, StartupTimeline.TRACE_FILE_NAME);
+		StartupTimeline.export(file);
+		assertFalse(StartupTimeline.isRecording());
+
+		JsonArray events;
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			events = JsonParser.parseReader(reader).getAsJsonObject().getAsJsonArray("traceEvents");
+		}
+		// inner, outer and the thread name
+		assertEquals(3, events.size());
+		JsonObject inner = events.get(0).getAsJsonObject();
+		JsonObject outer = events.get(1).getAsJsonObject();
+		assertEquals("inner", inner.get("name").getAsString());
+		assertEquals("X", inner.get("ph").getAsString());
+		assertEquals("outer", outer.get("name").getAsString());
+		assertTrue(inner.get("dur").getAsLong() >= 5000);
+		assertTrue(outer.get("ts").getAsLong() <= inner.get("ts").getAsLong());
+		assertTrue(outer.get("dur").getAsLong() >= inner.get("dur").getAsLong());
+		JsonObject thread = events.get(2).getAsJsonObject();
+		assertEquals("M", thread.get("ph").getAsString());
+		assertEquals(Thread.currentThread().getName(), thread.getAsJsonObject("args").get("name").getAsString());
+	}
+
+	@Test
+	public void testNotRecordedAfterExport() throws Exception {
+		StartupTimeline.export(new File(tempDir, StartupTimeline.TRACE_FILE_NAME));
+		StartupTimeline.begin("late", "test").close();
+		assertEquals(0, StartupTimeline.toTraceEvents().size());
+	}
+}
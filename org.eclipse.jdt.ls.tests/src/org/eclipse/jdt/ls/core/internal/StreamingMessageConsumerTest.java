@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.junit.jupiter.api.Test;
+
+public class StreamingMessageConsumerTest {
+
+	private final MessageJsonHandler jsonHandler = new MessageJsonHandler(new HashMap<>());
+
+	@Test
+	public void testSmallMessage() {
+		assertSameOutput(createResponse("1", List.of("hello", "h\u00e9llo w\u00f6rld \u2603")));
+	}
+
+	@Test
+	public void testLargeMessage() {
+		List<String> result = new ArrayList<>();
+		for (int i = 0; i < 50_000; i++) {
+			result.add("item \u00e9" + i);
+		}
+		ResponseMessage response = createResponse("2", result);
+		StreamingMessageConsumer consumer = assertSameOutput(response);
+		assertTrue(consumer.getPooledChunks() > 0);
+		// the pooled chunks are reused
+		assertSameOutput(consumer, response);
+	}
+
+	private ResponseMessage createResponse(String id, Object result) {
+		ResponseMessage response = new ResponseMessage();
+		response.setId(id);
+		response.setResult(result);
+		return response;
+	}
+
+	private StreamingMessageConsumer assertSameOutput(Message message) {
+		StreamingMessageConsumer consumer = new StreamingMessageConsumer(new ByteArrayOutputStream(), jsonHandler);
+		assertSameOutput(consumer, message);
+		return consumer;
+	}
+
+	private void assertSameOutput(StreamingMessageConsumer consumer, Message message) {
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		new StreamMessageConsumer(expected, jsonHandler).consume(message);
+		ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		consumer.setOutput(actual);
+		consumer.consume(message);
+		assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+	}
+}
@@ -13,11 +13,15 @@
 package org.eclipse.jdt.ls.core.internal.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
@@ -103,6 +107,26 @@ public class BuildWorkspaceHandlerTest extends AbstractProjectsManagerBasedTest
 		assertEquals(BuildWorkspaceStatus.SUCCEED, result, String.format("BuildWorkspaceStatus is: %s.", result.toString()));
 	}
 
+	@Test
+	public void testScheduleOpenProjectsFirst() throws Exception {
+		List<IProject> projects = importProjects("eclipse/multi");
+		IProject bar = ResourcesPlugin.getWorkspace().getRoot().getProject("bar");
+		Set<IProject> projectSet = new LinkedHashSet<>(projects);
+		projectSet.add(project);
+		List<IProject> toBuild = new ArrayList<>(projectSet);
+		WorkspaceBuildScheduler scheduler = new WorkspaceBuildScheduler(ResourcesPlugin.getWorkspace());
+
+		List<List<IProject>> batches = scheduler.schedule(toBuild, List.of(bar), true);
+		assertEquals(2, batches.size());
+		assertEquals(List.of(bar), batches.get(0));
+		assertEquals(toBuild.size() - 1, batches.get(1).size());
+		assertFalse(batches.get(1).contains(bar));
+
+		batches = scheduler.schedule(toBuild, List.of(bar), false);
+		assertEquals(toBuild.size(), batches.size());
+		assertEquals(List.of(bar), batches.get(0));
+	}
+
 	@Test
 	public void testBuildProjects() throws Exception {
 		List<IProject> projects = importProjects("maven/multimodule");
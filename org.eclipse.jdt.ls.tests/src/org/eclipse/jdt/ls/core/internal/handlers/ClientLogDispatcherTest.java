@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
+import org.eclipse.lsp4j.MessageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+
+public class ClientLogDispatcherTest {
+
+	private JavaClientConnection connection;
+	private ClientLogDispatcher dispatcher;
+
+	@BeforeEach
+	public void setUp() {
+		connection = mock(JavaClientConnection.class);
+		// flushed by the tests only
+		dispatcher = new ClientLogDispatcher(connection, TimeUnit.HOURS.toMillis(1));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		dispatcher.dispose();
+	}
+
+	@Test
+	public void testBatchesAndSummarizesMessages() {
+		dispatcher.logMessage(MessageType.Error, "1 ", "first");
+		dispatcher.logMessage(MessageType.Error, "2 ", "second");
+		dispatcher.logMessage(MessageType.Error, "3 ", "first");
+		dispatcher.logMessage(MessageType.Warning, "4 ", "third");
+		dispatcher.flush();
+
+		verify(connection).logMessage(MessageType.Error, "1 first\n(repeated 2 times)\n2 second");
+		verify(connection).logMessage(MessageType.Warning, "4 third");
+		assertEquals(3, dispatcher.getSentCount());
+		assertEquals(1, dispatcher.getSummarizedCount());
+		assertEquals(0, dispatcher.getDroppedCount());
+	}
+
+	@Test
+	public void testDropsMessagesOverCapacity() {
+		for (int i = 0; i < ClientLogDispatcher.MAX_PENDING_MESSAGES + 5; i++) {
+			dispatcher.logMessage(MessageType.Info, "", "message " + i);
+		}
+		dispatcher.flush();
+
+		assertEquals(5, dispatcher.getDroppedCount());
+		assertEquals(ClientLogDispatcher.MAX_PENDING_MESSAGES, dispatcher.getSentCount());
+		verify(connection).logMessage(MessageType.Warning, "5 log messages were dropped, too many messages were logged.");
+
+		// nothing left to send
+		dispatcher.flush();
+		verify(connection, never()).telemetryEvent(any());
+		verify(connection).logMessage(ArgumentMatchers.eq(MessageType.Info), anyString());
+	}
+
+	@Test
+	public void testDisposeSendsQueuedMessages() {
+		dispatcher.logMessage(MessageType.Info, "1 ", "Sent 1 log messages to the client");
+		dispatcher.dispose();
+
+		verify(connection).logMessage(MessageType.Info, "1 Sent 1 log messages to the client");
+		assertEquals(1, dispatcher.getSentCount());
+	}
+}
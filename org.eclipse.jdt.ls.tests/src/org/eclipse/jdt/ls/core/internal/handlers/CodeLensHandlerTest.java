@@ -17,6 +17,7 @@ import static org.eclipse.jdt.ls.core.internal.Lsp4jAssertions.assertRange;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -26,8 +27,15 @@ import static org.mockito.Mockito.when;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.ls.core.internal.ClassFileUtil;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
@@ -203,6 +211,15 @@ public class CodeLensHandlerTest extends AbstractProjectsManagerBasedTest {
 		assertTrue(data.contains(CodeLensHandler.IMPLEMENTATION_TYPE), "Unexpected type " + data);
 	}
 
+	@Test
+	public void testGetReferencedName() {
+		assertEquals("List", CodeLensHandler.getReferencedName("java.util.List"));
+		assertEquals("List", CodeLensHandler.getReferencedName("List<String>"));
+		assertEquals("foo", CodeLensHandler.getReferencedName("foo(bar(1), 2)"));
+		assertEquals("Foo", CodeLensHandler.getReferencedName("new Foo<>()"));
+		assertEquals("count", CodeLensHandler.getReferencedName("count"));
+	}
+
 	@Test
 	public void testGetCodeLenseBoundaries() {
 		List<CodeLens> result = handler.getCodeLensSymbols(null, monitor);
@@ -463,6 +480,43 @@ public class CodeLensHandlerTest extends AbstractProjectsManagerBasedTest {
 		assertRange(5, 25, 28, loc.getRange());
 	}
 
+	@Test
+	public void testCodeLensBatchIsShared() throws Exception {
+		ICompilationUnit unit = JavaCore.createCompilationUnitFrom(project.getFile("src/java/Foo.java"));
+		CodeLensCache cache = CodeLensCache.getInstance();
+		long stamp = cache.getStamp();
+		AtomicInteger started = new AtomicInteger();
+		Supplier<CompletableFuture<Map<IJavaElement, List<Location>>>> batch = () -> {
+			started.incrementAndGet();
+			return new CompletableFuture<>();
+		};
+		CompletableFuture<Map<IJavaElement, List<Location>>> first = cache.getBatch(unit, stamp, batch);
+		// a concurrent request shares the pending batch
+		assertSame(first, cache.getBatch(unit, stamp, batch));
+		assertEquals(1, started.get());
+
+		cache.invalidate();
+		assertNotSame(first, cache.getBatch(unit, cache.getStamp(), batch));
+		assertEquals(2, started.get());
+	}
+
+	@Test
+	public void testReconcileInvalidatesCodeLensCache() throws Exception {
+		waitForBackgroundJobs();
+		String source = "src/java/Foo.java";
+		assertEquals("1 reference", handler.resolve(getParams(createCodeLensRequest(source, 5, 13, 16)), monitor).getCommand().getTitle());
+		ICompilationUnit unit = JavaCore.createCompilationUnitFrom(project.getFile("src/java/Bar.java"));
+		unit.becomeWorkingCopy(monitor);
+		try {
+			unit.getBuffer().append("\nclass Baz extends Foo {}\n");
+			unit.reconcile(ICompilationUnit.NO_AST, true, null, monitor);
+			assertEquals("2 references", handler.resolve(getParams(createCodeLensRequest(source, 5, 13, 16)), monitor).getCommand().getTitle());
+		} finally {
+			unit.discardWorkingCopy();
+		}
+		assertEquals("1 reference", handler.resolve(getParams(createCodeLensRequest(source, 5, 13, 16)), monitor).getCommand().getTitle());
+	}
+
 	@Test
 	public void testResolveCodeLenseBoundaries() {
 		CodeLens result = handler.resolve(null, monitor);
@@ -97,6 +97,8 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.opentest4j.AssertionFailedError;
 
+import com.google.gson.Gson;
+
 /**
  * @author Gorkem Ercan
  *
@@ -321,6 +323,32 @@ public class CompletionHandlerTest extends AbstractCompilationUnitBasedTest {
 		assertNotNull(time);
 	}
 
+	@Test
+	public void testCompletion_compactData() throws Exception {
+		when(preferenceManager.getClientPreferences().isCompactCompletionResolveDataSupported()).thenReturn(true);
+		ICompilationUnit unit = getWorkingCopy(
+			"src/java/Foo.java",
+			"public class Foo {\n"+
+				"	void foo() {\n"+
+				"		Objec\n"+
+				"	}\n"+
+				"}\n");
+		CompletionList list = requestCompletions(unit, "Objec");
+		assertNotNull(list);
+		assertFalse(list.getItems().isEmpty(), "No proposals were found");
+
+		CompletionItem item = list.getItems().get(0);
+		assertTrue(item.getData() instanceof List);
+		// the client sends the data back as JSON
+		Map<String, String> data = CompletionResolveHandler.toResolveData(new Gson().toJsonTree(item.getData()));
+		assertNotNull(data);
+		assertEquals("0", data.get(CompletionResolveHandler.DATA_FIELD_PROPOSAL_ID));
+		long requestId = Long.parseLong(data.get(CompletionResolveHandler.DATA_FIELD_REQUEST_ID));
+		CompletionResponse completionResponse = CompletionResponses.get(requestId);
+		assertNotNull(completionResponse);
+		assertNotNull(completionResponse.getCommonData(CompletionResolveHandler.DATA_FIELD_URI));
+	}
+
 
 	@Test
 	public void testCompletion_constructor() throws Exception{
@@ -102,6 +102,16 @@ public class DocumentHighlightHandlerTest extends AbstractProjectsManagerBasedTe
 		assertHighlight(it.next(), 25, 9, 12, DocumentHighlightKind.Read);
 	}
 
+	@Test
+	public void testDocumentHighlight_CachedOccurrences() throws JavaModelException {
+		List<DocumentHighlight> expected = requestHighlights("org.sample.Highlight", 6, 18);
+		// another occurrence of the same variable is answered from the occurrence table
+		List<DocumentHighlight> result = requestHighlights("org.sample.Highlight", 9, 7);
+		assertEquals(expected, result);
+		result = requestHighlights("org.sample.Highlight", 6, 18);
+		assertEquals(expected, result);
+	}
+
 	private List<DocumentHighlight> requestHighlights(String compilationUnit, int line, int character) throws JavaModelException {
 		String uri = ClassFileUtil.getURI(project, compilationUnit);
 		TextDocumentIdentifier identifier = new TextDocumentIdentifier(uri);
@@ -13,19 +13,24 @@
 
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Properties;
 
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.internal.core.ClasspathEntry;
 import org.eclipse.jdt.internal.core.JavaProject;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
 import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
 import org.junit.jupiter.api.Test;
 
@@ -42,7 +47,7 @@ public class SharedIndexTest extends AbstractProjectsManagerBasedTest {
 			SHARED_INDEX_LOCATION.set(ClasspathEntry.class, newIndexPath.toString());
 
 			IJavaProject javaProject = newEmptyProject();
-			IndexUtils.copyIndexesToSharedLocation();
+			IndexUtils.copyIndexesToSharedLocation(monitor);
 			IClasspathEntry[] entries = ((JavaProject) javaProject).getResolvedClasspath();
 				for (IClasspathEntry entry : entries) {
 					if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
@@ -64,4 +69,36 @@ public class SharedIndexTest extends AbstractProjectsManagerBasedTest {
 			SHARED_INDEX_LOCATION.set(ClasspathEntry.class, null);
 		}
 	}
+
+	@Test
+	public void testExportAndImportSharedIndexes() throws Exception {
+		final String sharedIndexKey = "jdt.core.sharedIndexLocation";
+		Field SHARED_INDEX_LOCATION = ClasspathEntry.class.getDeclaredField("SHARED_INDEX_LOCATION");
+		SHARED_INDEX_LOCATION.setAccessible(true);
+		try {
+			Path newIndexPath = Paths.get(getWorkingProjectDirectory().toString(), ".index");
+			System.setProperty(sharedIndexKey, newIndexPath.toString());
+			SHARED_INDEX_LOCATION.set(ClasspathEntry.class, newIndexPath.toString());
+
+			IJavaProject javaProject = newEmptyProject();
+			int exported = IndexUtils.exportIndexesToSharedLocation(new IJavaProject[] { javaProject });
+			assertTrue(exported > 0, "library indexes should be exported");
+
+			File manifestFile = newIndexPath.resolve(DiskIndex.INDEX_VERSION).resolve(IndexUtils.SHARED_INDEX_MANIFEST).toFile();
+			assertTrue(manifestFile.exists(), "shared index manifest should exist");
+			Properties manifest = new Properties();
+			try (InputStream in = new FileInputStream(manifestFile)) {
+				manifest.load(in);
+			}
+			assertEquals(exported, manifest.size());
+			for (String indexName : manifest.stringPropertyNames()) {
+				assertTrue(new File(manifestFile.getParentFile(), indexName).exists(), "indexes listed in the manifest should exist");
+			}
+
+			assertEquals(exported, IndexUtils.importSharedIndexes());
+		} finally {
+			System.clearProperty(sharedIndexKey);
+			SHARED_INDEX_LOCATION.set(ClasspathEntry.class, null);
+		}
+	}
 }
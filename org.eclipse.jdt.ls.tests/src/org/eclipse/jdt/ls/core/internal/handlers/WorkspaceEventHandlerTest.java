@@ -21,6 +21,7 @@ import java.io.File;
 import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.eclipse.core.resources.IFile;
@@ -158,6 +159,25 @@ public class WorkspaceEventHandlerTest extends AbstractProjectsManagerBasedTest
 		assertEquals(0L, diags.get(6).getDiagnostics().size());
 	}
 
+	@Test
+	public void testCoalesceFileEvents() {
+		Map<String, FileChangeType> changes = WorkspaceEventsHandler.coalesce(List.of(
+			new FileEvent("file:///a.java", FileChangeType.Created),
+			new FileEvent("file:///b.java", FileChangeType.Changed),
+			new FileEvent("file:///a.java", FileChangeType.Changed),
+			new FileEvent("file:///c.java", FileChangeType.Created),
+			new FileEvent("file:///d.java", FileChangeType.Deleted),
+			new FileEvent("file:///b.java", FileChangeType.Changed),
+			new FileEvent("file:///c.java", FileChangeType.Deleted),
+			new FileEvent("file:///d.java", FileChangeType.Created),
+			new FileEvent("file:///b.java", FileChangeType.Deleted)
+		));
+		assertEquals(List.of("file:///a.java", "file:///b.java", "file:///d.java"), List.copyOf(changes.keySet()));
+		assertEquals(FileChangeType.Created, changes.get("file:///a.java"));
+		assertEquals(FileChangeType.Deleted, changes.get("file:///b.java"));
+		assertEquals(FileChangeType.Changed, changes.get("file:///d.java"));
+	}
+
 	private void assertEndsWith(String target, String suffix) {
 		if (target.endsWith("/")) {
 			target = target.substring(0, target.length() - 1);
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.ls.core.internal.handlers.WorkspaceSymbolIndex.SymbolEntry;
+import org.junit.jupiter.api.Test;
+
+public class WorkspaceSymbolIndexTest {
+
+	@Test
+	public void testMatchScore() {
+		assertEquals(-1, WorkspaceSymbolIndex.matchScore("Foo", "Bar"));
+		assertTrue(WorkspaceSymbolIndex.matchScore("Foo", "Foo") > WorkspaceSymbolIndex.matchScore("foo", "Foo"));
+		assertTrue(WorkspaceSymbolIndex.matchScore("foo", "Foo") > WorkspaceSymbolIndex.matchScore("Foo", "FooBar"));
+		assertTrue(WorkspaceSymbolIndex.matchScore("Foo", "FooBar") > WorkspaceSymbolIndex.matchScore("FB", "FooBar"));
+		assertTrue(WorkspaceSymbolIndex.matchScore("FB", "FooBar") > WorkspaceSymbolIndex.matchScore("Bar", "FooBar"));
+		assertTrue(WorkspaceSymbolIndex.matchScore("Bar", "FooBar") > WorkspaceSymbolIndex.matchScore("fbr", "FooBar"));
+		assertTrue(WorkspaceSymbolIndex.matchScore("fbr", "FooBar") >= 0);
+		assertEquals(-1, WorkspaceSymbolIndex.matchScore("rbf", "FooBar"));
+	}
+
+	@Test
+	public void testQueryRanking() {
+		WorkspaceSymbolIndex index = new WorkspaceSymbolIndex();
+		index.putEntries("unit1", List.of(entry("NullPointerException", "unit1"), entry("PointerUtils", "unit1")));
+		index.putEntries("unit2", List.of(entry("Pointer", "unit2"), entry("NumberParser", "unit2")));
+
+		assertEquals(List.of("Pointer", "PointerUtils", "NullPointerException"), names(index.query("Pointer", 0, e -> true)));
+		assertEquals(List.of("NullPointerException", "NumberParser"), names(index.query("NPE", 0, e -> true)));
+		assertEquals(List.of("NumberParser", "NullPointerException"), names(index.query("NP", 0, e -> true)));
+		assertEquals(List.of("Pointer"), names(index.query("Pointer", 1, e -> true)));
+		assertEquals(List.of("PointerUtils"), names(index.query("Pointer", 0, e -> e.getName().endsWith("Utils"))));
+	}
+
+	@Test
+	public void testInProjects() {
+		SymbolEntry entry = entry("Foo", "unit1");
+		assertTrue(entry.isInProjects(null));
+		// the project requiring the project of the entry
+		assertTrue(entry.isInProjects(Set.of("app", "hello")));
+		assertFalse(entry.isInProjects(Set.of("app")));
+	}
+
+	@Test
+	public void testTrigrams() {
+		assertEquals(3, WorkspaceSymbolIndex.trigrams("abcde").size());
+		assertTrue(WorkspaceSymbolIndex.trigrams("ab").isEmpty());
+	}
+
+	private static SymbolEntry entry(String name, String unit) {
+		return new SymbolEntry(name, "org.sample", unit + "/" + name, unit, "hello", 0, false, false);
+	}
+
+	private static List<String> names(List<SymbolEntry> entries) {
+		return entries.stream().map(SymbolEntry::getName).collect(Collectors.toList());
+	}
+}
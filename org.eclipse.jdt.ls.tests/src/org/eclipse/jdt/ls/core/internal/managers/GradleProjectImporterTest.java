@@ -26,6 +26,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -87,6 +88,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class GradleProjectImporterTest extends AbstractGradleBasedTest{
 
 	private static final String GRADLE1_PATTERN = "**/gradle1";
+	private static final String GRADLE3_PATTERN = "**/gradle3";
 	private String gradleJavaHome;
 
 	@BeforeEach
@@ -124,6 +126,28 @@ public class GradleProjectImporterTest extends AbstractGradleBasedTest{
 		assertFalse(ProjectUtils.isJavaProject(gradle3));
 	}
 
+	@Test
+	public void testPrepareBuildsConcurrently() throws Exception {
+		Preferences preferences = JavaLanguageServerPlugin.getPreferencesManager().getPreferences();
+		int maxConcurrentBuilds = preferences.getGradleMaxConcurrentBuilds();
+		List<String> javaImportExclusions = preferences.getJavaImportExclusions();
+		try {
+			preferences.setGradleMaxConcurrentBuilds(2);
+			javaImportExclusions.add(GRADLE3_PATTERN);
+			List<IProject> projects = importProjects("gradle/nested");
+			assertEquals(2, projects.size()); // 2 independent gradle builds
+			for (String name : List.of("gradle1", "gradle2")) {
+				assertIsGradleProject(getProject(name));
+				assertTrue(logListener.getInfos().stream().anyMatch(message -> message.startsWith("Gradle build ") && message.contains(name + " prepared in")), name + " wasn't prepared");
+				assertTrue(GradleBuildScheduler.getLastSyncDurations().keySet().stream().anyMatch(build -> build.endsWith(name)), name + " wasn't synchronized");
+			}
+			assertTrue(logListener.getInfos().stream().noneMatch(message -> message.startsWith("Failed to prepare Gradle build")), logListener.getInfos().toString());
+		} finally {
+			preferences.setGradleMaxConcurrentBuilds(maxConcurrentBuilds);
+			javaImportExclusions.remove(GRADLE3_PATTERN);
+		}
+	}
+
 	@Test
 	public void testDeleteInvalidProjects() throws Exception {
 		List<IProject> projects = importProjects(Arrays.asList("gradle/nested/gradle1", "gradle/nested/gradle2"));
@@ -173,7 +197,7 @@ public class GradleProjectImporterTest extends AbstractGradleBasedTest{
 			if (GradleProjectImporter.getGradleHomeFile() != null) {
 				assertEquals(distribution.getClass(), LocalGradleDistribution.class);
 			} else {
-				assertSame(distribution, GradleProjectImporter.DEFAULT_DISTRIBUTION);
+				assertSame(distribution, GradleProjectImporter.getDefaultDistribution());
 			}
 			String requiredVersion = "8.5";
 			JavaLanguageServerPlugin.getPreferencesManager().getPreferences().setGradleVersion(requiredVersion);
@@ -297,7 +321,10 @@ public class GradleProjectImporterTest extends AbstractGradleBasedTest{
 		}
 		IProject project = WorkspaceHelper.getProject("gradle1");
 		File gradleBuild = new File(project.getLocation().toFile(), "build.gradle");
+		// the build inputs are compared by content
 		gradleBuild.setLastModified(System.currentTimeMillis() + 1000);
+		assertFalse(GradleProjectImporter.shouldSynchronize(project.getLocation().toFile()));
+		Files.writeString(gradleBuild.toPath(), System.lineSeparator() + "// changed", StandardOpenOption.APPEND);
 		assertTrue(GradleProjectImporter.shouldSynchronize(project.getLocation().toFile()));
 	}
 
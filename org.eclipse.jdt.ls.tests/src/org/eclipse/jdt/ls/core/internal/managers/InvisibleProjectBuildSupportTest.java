@@ -123,6 +123,37 @@ public class InvisibleProjectBuildSupportTest extends AbstractInvisibleProjectBa
 
 	}
 
+	@Test
+	public void testIncrementalLibDetection() throws Exception {
+		File projectFolder = createSourceFolderWithMissingLibs("incrementalLibDetection");
+		IProject project = importRootFolder(projectFolder, "Test.java");
+		waitForBackgroundJobs();
+		addLibs(projectFolder.toPath());
+		Path libPath = projectFolder.toPath().resolve(InvisibleProjectBuildSupport.LIB_FOLDER);
+		// not reported, so only picked up by a full update
+		FileUtils.copyFile(libPath.resolve("foo.jar").toFile(), libPath.resolve("bar.jar").toFile());
+
+		projectsManager.fileChanged(libPath.resolve("foo.jar").toUri().toString(), CHANGE_TYPE.CREATED);
+		waitForBackgroundJobs();
+		IJavaProject javaProject = JavaCore.create(project);
+		{
+			IClasspathEntry[] classpath = javaProject.getRawClasspath();
+			assertEquals(3, classpath.length, "Unexpected classpath:\n" + JavaProjectHelper.toString(classpath));
+			assertEquals("foo.jar", classpath[2].getPath().lastSegment());
+			assertEquals("foo-sources.jar", classpath[2].getSourceAttachmentPath().lastSegment());
+		}
+
+		UpdateClasspathJob.getInstance().updateClasspath(javaProject);
+		waitForBackgroundJobs();
+		{
+			IClasspathEntry[] classpath = javaProject.getRawClasspath();
+			assertEquals(4, classpath.length, "Unexpected classpath:\n" + JavaProjectHelper.toString(classpath));
+			// the existing entry is left in place
+			assertEquals("foo.jar", classpath[2].getPath().lastSegment());
+			assertEquals("bar.jar", classpath[3].getPath().lastSegment());
+		}
+	}
+
 	@Test
 	public void testDebounceJarDetection() throws Exception {
 		File projectFolder = createSourceFolderWithMissingLibs("dynamicLibDetection");
@@ -28,8 +28,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
@@ -51,6 +55,7 @@ import org.eclipse.jdt.ls.core.internal.handlers.BuildWorkspaceHandler;
 import org.eclipse.jdt.ls.core.internal.handlers.ProgressReporterManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences.FeatureStatus;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.m2e.core.project.MavenProjectInfo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -543,6 +548,93 @@ public class MavenProjectImporterTest extends AbstractMavenBasedTest {
 		assertEquals(1, javaProjects.length);
 	}
 
+	@Test
+	public void testReactorWaves() {
+		MavenProjectInfo parent = newMavenProjectInfo("parent", null);
+		MavenProjectInfo api = newMavenProjectInfo("api", parent);
+		MavenProjectInfo impl = newMavenProjectInfo("impl", parent, "api", "commons-lang3");
+		MavenProjectInfo cli = newMavenProjectInfo("cli", parent, "impl");
+		MavenProjectInfo tools = newMavenProjectInfo("tools", parent);
+		List<List<MavenProjectInfo>> waves = MavenProjectImporter.getReactorWaves(List.of(cli, impl, tools, api, parent));
+		assertEquals(List.of(List.of(parent), List.of(tools, api), List.of(impl), List.of(cli)), waves);
+	}
+
+	@Test
+	public void testLazyImport() throws Exception {
+		File root = copyFiles("maven/multimodule", true);
+		IPath rootPath = ResourceUtils.canonicalFilePathFromURI(root.toURI().toString());
+		LazyProjectImporter lazyImporter = new LazyProjectImporter(projectsManager);
+		assertTrue(lazyImporter.discover(List.of(rootPath), monitor).isEmpty());
+		assertTrue(lazyImporter.hasBuildFiles(rootPath));
+		assertEquals(Set.of(rootPath.append("module2/pom.xml")), lazyImporter.getBuildFilesFor(rootPath.append("module2/src/main/java/Foo.java")));
+		assertEquals(Set.of(rootPath.append("module1/childmodule/pom.xml")), lazyImporter.getBuildFilesFor(rootPath.append("module1/childmodule/src/main/java/Foo.java")));
+
+		Job job = lazyImporter.importFor(rootPath.append("module2/src/main/java/Foo.java").toFile().toURI().toString());
+		assertNotNull(job);
+		job.join();
+		assertNotNull(WorkspaceHelper.getProject("module2"));
+		assertNull(WorkspaceHelper.getProject("module3"));
+		assertTrue(lazyImporter.getBuildFilesFor(rootPath.append("module2/src/main/java/Foo.java")).isEmpty());
+		assertTrue(lazyImporter.hasPendingBuildFiles());
+
+		// documents outside of the pending builds are resolved by a job importing nothing
+		job = lazyImporter.importFor(root.getParentFile().toPath().resolve("Foo.java").toUri().toString());
+		job.join();
+		assertTrue(job.getResult().isOK());
+		assertNull(WorkspaceHelper.getProject("module3"));
+	}
+
+	@Test
+	public void testFastStart() throws Exception {
+		importProjects("maven/salut");
+		List<IPath> roots = List.of(IPath.fromOSString(copyFiles("maven/salut", false).getAbsolutePath()));
+		assertFalse(projectsManager.canFastStart(roots));
+		try {
+			preferenceManager.getPreferences().setImportFastStartEnabled(true);
+			assertTrue(projectsManager.canFastStart(roots));
+			assertFalse(projectsManager.canFastStart(List.of(roots.get(0).append("src"))));
+			projectsManager.verifyProjects(roots, monitor);
+			waitForBackgroundJobs();
+			IProject project = WorkspaceHelper.getProject("salut");
+			assertIsJavaProject(project);
+			assertNoErrors(project);
+			assertFalse(projectsManager.isVerifyingProjects());
+			assertEquals("1.8", getJavaSourceLevel(project));
+
+			// the pom changed between two sessions
+			File pom = project.getFile("pom.xml").getLocation().toFile();
+			String content = Files.readString(pom.toPath());
+			Files.writeString(pom.toPath(), content.replace("<source>1.8</source>", "<source>11</source>").replace("<target>1.8</target>", "<target>11</target>"));
+			assertTrue(projectsManager.canFastStart(roots));
+			projectsManager.verifyProjects(roots, monitor);
+			waitForBackgroundJobs();
+			assertEquals("11", getJavaSourceLevel(project));
+			assertNoErrors(project);
+		} finally {
+			preferenceManager.getPreferences().setImportFastStartEnabled(false);
+		}
+	}
+
+	private static MavenProjectInfo newMavenProjectInfo(String artifactId, MavenProjectInfo parent, String... dependencies) {
+		Model model = new Model();
+		model.setArtifactId(artifactId);
+		if (parent == null) {
+			model.setGroupId("org.sample");
+		} else {
+			Parent parentModel = new Parent();
+			parentModel.setGroupId("org.sample");
+			parentModel.setArtifactId(parent.getModel().getArtifactId());
+			model.setParent(parentModel);
+		}
+		for (String dependencyId : dependencies) {
+			Dependency dependency = new Dependency();
+			dependency.setGroupId("commons-lang3".equals(dependencyId) ? "org.apache.commons" : "org.sample");
+			dependency.setArtifactId(dependencyId);
+			model.addDependency(dependency);
+		}
+		return new MavenProjectInfo(artifactId, new File(artifactId, MavenProjectImporter.POM_FILE), model, parent);
+	}
+
 	private static class MavenUpdateProjectJobSpy extends JobChangeAdapter {
 
 		int updateProjectJobCalled;
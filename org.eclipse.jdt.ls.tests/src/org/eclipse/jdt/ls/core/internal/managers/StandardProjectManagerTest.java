@@ -15,13 +15,21 @@ package org.eclipse.jdt.ls.core.internal.managers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
 import org.eclipse.jdt.ls.core.internal.preferences.StandardPreferenceManager;
+import org.eclipse.lsp4j.FileSystemWatcher;
+import org.eclipse.lsp4j.RelativePattern;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -55,4 +63,31 @@ public class StandardProjectManagerTest {
 		}
 	}
 
+	@Test
+	public void testCompressWatchers() {
+		List<FileSystemWatcher> watchers = new ArrayList<>();
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.java")));
+		for (String name : Arrays.asList("a.jar", "b.jar", "c.jar", "d.jar")) {
+			watchers.add(new FileSystemWatcher(Either.forRight(new RelativePattern(Either.forRight("file:///work/app/lib/"), name))));
+		}
+		watchers.add(new FileSystemWatcher(Either.forRight(new RelativePattern(Either.forRight("file:///work/app/tools/"), "e.jar"))));
+		for (String name : Arrays.asList("gen", "res", "etc", "conf")) {
+			watchers.add(new FileSystemWatcher(Either.forLeft("/work/app/" + name + "/**")));
+		}
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.java")));
+
+		List<FileSystemWatcher> compressed = FileWatcherPlanner.compress(watchers);
+		assertEquals(4, compressed.size());
+		assertEquals("**/*.java", compressed.get(0).getGlobPattern().getLeft());
+		assertEquals("{a.jar,b.jar,c.jar,d.jar}", compressed.get(1).getGlobPattern().getRight().getPattern());
+		assertEquals("e.jar", compressed.get(2).getGlobPattern().getRight().getPattern());
+		assertEquals("/work/app/{gen,res,etc,conf}/**", compressed.get(3).getGlobPattern().getLeft());
+
+		Map<String, IPath> roots = Map.of("app", new Path("/work/app"), "other", new Path("/work/other"));
+		Map<String, List<FileSystemWatcher>> registrations = FileWatcherPlanner.groupByRoot(compressed, roots);
+		assertEquals(2, registrations.size());
+		assertEquals(List.of(compressed.get(0)), registrations.get(Preferences.WORKSPACE_WATCHED_FILES_ID));
+		assertEquals(compressed.subList(1, 4), registrations.get(Preferences.WORKSPACE_WATCHED_FILES_ID + "-app"));
+	}
+
 }
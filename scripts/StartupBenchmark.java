@@ -0,0 +1,190 @@
+//usr/bin/env jbang "$0" "$@" ; exit $?
+
+//DEPS com.google.code.gson:gson:2.11.0
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Measures the start up of the language server built in
+ * org.eclipse.jdt.ls.product/target/repository, with and without the class
+ * data sharing archive used by the launcher script.
+ *
+ * Usage: jbang scripts/StartupBenchmark.java [workspace folder] [runs]
+ *
+ * Each run starts the server with a new data folder on the workspace folder
+ * (a test project by default), and reports the time to the initialize
+ * response (time-to-initialize) and to the ServiceReady status
+ * (time-to-ready). The first run is a training run creating the archive in
+ * the cache folder of the launcher script, it isn't reported.
+ */
+public class StartupBenchmark {
+
+	private static final long TIMEOUT_MINUTES = 10;
+
+	public static void main(String... args) throws Exception {
+		Path launcher = Paths.get("org.eclipse.jdt.ls.product", "target", "repository", "bin", "jdtls").toAbsolutePath();
+		if (!Files.isRegularFile(launcher)) {
+			System.err.println("Cannot find " + launcher + ", build the product first.");
+			System.exit(1);
+		}
+		Path workspace = Paths.get(args.length > 0 ? args[0] : "org.eclipse.jdt.ls.tests/projects/maven/salut").toAbsolutePath();
+		int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		List<long[]> withoutArchive = new ArrayList<>();
+		List<long[]> withArchive = new ArrayList<>();
+		// training run, creating the archive if it doesn't exist yet
+		start(launcher, workspace, true);
+		for (int i = 0; i < runs; i++) {
+			withoutArchive.add(start(launcher, workspace, false));
+			withArchive.add(start(launcher, workspace, true));
+		}
+		report("without CDS archive", withoutArchive);
+		report("with CDS archive", withArchive);
+	}
+
+	/**
+	 * @return the time-to-initialize and time-to-ready in milliseconds
+	 */
+	private static long[] start(Path launcher, Path workspace, boolean classDataSharing) throws Exception {
+		Path data = Files.createTempDirectory("jdtls-data");
+		List<String> command = new ArrayList<>();
+		command.add(launcher.toString());
+		command.add(classDataSharing ? "--class-data-sharing" : "--no-class-data-sharing");
+		command.add("-data");
+		command.add(data.toString());
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.redirectError(ProcessBuilder.Redirect.DISCARD);
+		long start = System.nanoTime();
+		Process process = builder.start();
+		try {
+			OutputStream out = process.getOutputStream();
+			InputStream in = new BufferedInputStream(process.getInputStream());
+			JsonObject initialize = new JsonObject();
+			initialize.addProperty("processId", ProcessHandle.current().pid());
+			initialize.addProperty("rootUri", workspace.toUri().toString());
+			initialize.add("capabilities", new JsonObject());
+			send(out, request(1, "initialize", initialize));
+			long initialized = -1;
+			long ready = -1;
+			while (ready < 0) {
+				JsonObject message = read(in);
+				if (message == null) {
+					throw new IOException("The server exited before being ready");
+				}
+				if (message.has("method") && message.has("id")) {
+					// a request from the server (registerCapability, configuration, ...)
+					JsonObject response = new JsonObject();
+					response.addProperty("jsonrpc", "2.0");
+					response.add("id", message.get("id"));
+					response.add("result", JsonNull.INSTANCE);
+					send(out, response);
+				} else if (message.has("id") && message.get("id").getAsInt() == 1) {
+					initialized = elapsed(start);
+					JsonObject notification = request(-1, "initialized", new JsonObject());
+					send(out, notification);
+				} else if ("language/status".equals(getString(message, "method"))
+						&& "ServiceReady".equals(getString(message.getAsJsonObject("params"), "type"))) {
+					ready = elapsed(start);
+				}
+			}
+			send(out, request(2, "shutdown", JsonNull.INSTANCE));
+			send(out, request(-1, "exit", JsonNull.INSTANCE));
+			// the archive is written when the JVM exits
+			if (!process.waitFor(TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+				throw new IOException("The server didn't exit");
+			}
+			return new long[] { initialized, ready };
+		} finally {
+			process.destroyForcibly();
+			delete(data);
+		}
+	}
+
+	private static void report(String name, List<long[]> results) {
+		System.out.println(name + ":");
+		System.out.println("  time-to-initialize: " + median(results, 0) + "ms (median of " + results.size() + " runs)");
+		System.out.println("  time-to-ready:      " + median(results, 1) + "ms (median of " + results.size() + " runs)");
+	}
+
+	private static long median(List<long[]> results, int index) {
+		long[] values = results.stream().mapToLong(result -> result[index]).sorted().toArray();
+		return values[values.length / 2];
+	}
+
+	private static long elapsed(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
+	private static String getString(JsonObject object, String name) {
+		JsonElement element = object == null ? null : object.get(name);
+		return element == null || !element.isJsonPrimitive() ? null : element.getAsString();
+	}
+
+	private static JsonObject request(int id, String method, JsonElement params) {
+		JsonObject request = new JsonObject();
+		request.addProperty("jsonrpc", "2.0");
+		if (id >= 0) {
+			request.addProperty("id", id);
+		}
+		request.addProperty("method", method);
+		request.add("params", params);
+		return request;
+	}
+
+	private static void send(OutputStream out, JsonObject message) throws IOException {
+		byte[] content = message.toString().getBytes(StandardCharsets.UTF_8);
+		out.write(("Content-Length: " + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+		out.write(content);
+		out.flush();
+	}
+
+	private static JsonObject read(InputStream in) throws IOException {
+		int contentLength = -1;
+		StringBuilder line = new StringBuilder();
+		while (true) {
+			int c = in.read();
+			if (c < 0) {
+				return null;
+			}
+			if (c == '\n') {
+				String header = line.toString().trim();
+				line.setLength(0);
+				if (header.isEmpty()) {
+					if (contentLength >= 0) {
+						break;
+					}
+				} else if (header.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+					contentLength = Integer.parseInt(header.substring(15).trim());
+				}
+			} else {
+				line.append((char) c);
+			}
+		}
+		byte[] content = in.readNBytes(contentLength);
+		return JsonParser.parseString(new String(content, StandardCharsets.UTF_8)).getAsJsonObject();
+	}
+
+	private static void delete(Path path) throws IOException {
+		try (Stream<Path> paths = Files.walk(path)) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+}